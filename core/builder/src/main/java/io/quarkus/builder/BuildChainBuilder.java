@@ -8,6 +8,7 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -173,7 +174,7 @@ public BuildChain build() throws ChainBuildException {
         final Set<StepInfo> endSteps = buildAllSteps(included, dependencies, startSteps, producingOrdinals);
 
         outputGraph(startSteps, endSteps);
-        return new BuildChain(startSteps, this, endSteps.size(), producingOrdinals);
+        return new BuildChain(sortByCriticalPath(startSteps), this, endSteps.size(), producingOrdinals);
     }
 
     private Map<BuildStepBuilder, Set<Produce>> wireDependencies(Set<BuildStepBuilder> included)
@@ -442,6 +443,11 @@ private StepInfo buildOne(BuildStepBuilder toBuild, Set<BuildStepBuilder> includ
                 includedDependents++;
             }
         }
+        int criticalPathLength = 0;
+        for (StepInfo dependent : dependentStepInfos) {
+            criticalPathLength = Math.max(criticalPathLength, dependent.getCriticalPathLength());
+        }
+        criticalPathLength++;
         final Set<ItemId> realProduces = toBuild.getRealProduces();
         final int ord = --ordinal[0];
         for (ItemId itemId : realProduces) {
@@ -463,7 +469,7 @@ private StepInfo buildOne(BuildStepBuilder toBuild, Set<BuildStepBuilder> includ
                 toBuild.getBuildStep(),
                 toBuild.getRealConsumes(),
                 realProduces,
-                includedDependencies, dependentStepInfos, ord);
+                includedDependencies, sortByCriticalPath(dependentStepInfos), ord, criticalPathLength);
         mapped.put(toBuild, stepInfo);
         if (includedDependencies == 0) {
             // it's a start step!
@@ -476,6 +482,20 @@ private StepInfo buildOne(BuildStepBuilder toBuild, Set<BuildStepBuilder> includ
         return stepInfo;
     }
 
+    /**
+     * Steps are submitted to the executor in iteration order, so starting the ones with the longest chain of dependents
+     * first keeps the critical path of the build moving while the shorter chains fill the remaining threads.
+     */
+    private static Set<StepInfo> sortByCriticalPath(Set<StepInfo> steps) {
+        if (steps.size() < 2) {
+            return steps;
+        }
+        final List<StepInfo> sorted = new ArrayList<>(steps);
+        // stable, so steps with the same critical path length keep their original order
+        sorted.sort(Comparator.comparingInt(StepInfo::getCriticalPathLength).reversed());
+        return new LinkedHashSet<>(sorted);
+    }
+
     void addProvider(final BuildProvider provider) throws ChainBuildException {
         providers.add(provider);
         provider.installInto(this);
@@ -9,15 +9,17 @@ final class StepInfo {
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
     private final int ordinal;
+    private final int criticalPathLength;
 
     StepInfo(BuildStep buildStep, Set<ItemId> consumes, Set<ItemId> produces, int dependencies, Set<StepInfo> dependents,
-            int ordinal) {
+            int ordinal, int criticalPathLength) {
         this.buildStep = buildStep;
         this.consumes = consumes;
         this.produces = produces;
         this.dependencies = dependencies;
         this.dependents = dependents;
         this.ordinal = ordinal;
+        this.criticalPathLength = criticalPathLength;
     }
 
     BuildStep getBuildStep() {
@@ -47,6 +49,13 @@ int getOrdinal() {
         return ordinal;
     }
 
+    /**
+     * @return the number of steps on the longest chain of dependents starting with this step, including this step
+     */
+    int getCriticalPathLength() {
+        return criticalPathLength;
+    }
+
     @Override
     public String toString() {
         return buildStep.toString() + " (" + ordinal + ")";
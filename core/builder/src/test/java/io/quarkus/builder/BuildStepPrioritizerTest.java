@@ -155,4 +155,22 @@ void consumesMultiBuildItemsInProducingOrdinalOrder2() throws ChainBuildExceptio
         assertEquals(List.of("bytecode-from-base-config", "bytecode-from-logging", "bytecode-from-feature"), consumedOrder);
     }
 
+    @Test
+    void startsStepsWithLongestChainOfDependentsFirst() throws ChainBuildException, BuildException {
+        BuildChain chain = setupChainBuilder(new ArrayList<>()).build();
+        List<String> startOrder = new ArrayList<>();
+        for (StepInfo startStep : chain.getStartSteps()) {
+            startOrder.add(startStep.getBuildStep().getId());
+        }
+        // base-config -> logging-setup -> final-assembler is longer than feature-init -> final-assembler
+        assertEquals(List.of("base-config", "feature-init"), startOrder);
+        for (StepInfo startStep : chain.getStartSteps()) {
+            if (startStep.getBuildStep().getId().equals("base-config")) {
+                assertEquals(3, startStep.getCriticalPathLength());
+            } else {
+                assertEquals(2, startStep.getCriticalPathLength());
+            }
+        }
+    }
+
 }
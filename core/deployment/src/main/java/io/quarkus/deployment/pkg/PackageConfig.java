@@ -136,6 +136,19 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the dependency jars copied to the {@code lib} directory of a {@code fast-jar} or {@code mutable-jar}
+         * by a previous build should be kept if they are unchanged, instead of copying all of them again.
+         * A jar is considered unchanged if it has the same size and last modification time as the resolved dependency.
+         * The content is not compared, so a dependency rebuilt with the same size and a preserved last modification time,
+         * for example, by a reproducible build, is not copied again.
+         * Jars of dependencies which are no longer part of the application are removed.
+         * <p>
+         * This speeds up repeated packaging of applications with many dependencies.
+         */
+        @WithDefault("false")
+        boolean reuseUnchangedDependencies();
+
         /**
          * Files that should not be copied to the output artifact.
          */
@@ -16,6 +16,7 @@
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -118,8 +119,15 @@ public JarBuildItem build() throws IOException {
         if (packageConfig.jar().userProvidersDirectory().isPresent()) {
             userProviders = buildDir.resolve(packageConfig.jar().userProvidersDirectory().get());
         }
+        boolean reuseDependencies = packageConfig.jar().reuseUnchangedDependencies();
         if (!rebuild) {
-            IoUtils.createOrEmptyDir(buildDir);
+            if (reuseDependencies && Files.isDirectory(libDir)) {
+                // keep the dependencies copied by the previous build, stale ones are removed once all are copied
+                emptyDirExcept(buildDir, Set.of(libDir));
+                emptyDirExcept(libDir, Set.of(mainLib, baseLib));
+            } else {
+                IoUtils.createOrEmptyDir(buildDir);
+            }
             Files.createDirectories(mainLib);
             Files.createDirectories(baseLib);
             Files.createDirectories(appDir);
@@ -236,7 +244,7 @@ public JarBuildItem build() throws IOException {
                 copyDependency(parentFirstArtifactKeys, outputTarget, copiedArtifacts, mainLib, baseLib,
                         fastJarJarsBuilder::addDependency, fastJarJarsBuilder::addParentFirstDependency, true,
                         appDep, transformedClasses, removedArtifactKeys, packageConfig, manifestConfig,
-                        executorService, treeShakeResult);
+                        executorService, treeShakeResult, reuseDependencies);
             } else if (includeAppDependency(appDep, outputTarget.getIncludedOptionalDependencies(), removedArtifactKeys)) {
                 appDep.getResolvedPaths().forEach(fastJarJarsBuilder::addDependency);
             }
@@ -244,6 +252,14 @@ public JarBuildItem build() throws IOException {
                 appDep.getResolvedPaths().forEach(parentFirst::add);
             }
         }
+        if (reuseDependencies && !rebuild) {
+            Set<Path> currentDependencies = new HashSet<>();
+            for (List<Path> paths : copiedArtifacts.values()) {
+                currentDependencies.addAll(paths);
+            }
+            deleteStaleDependencies(mainLib, currentDependencies);
+            deleteStaleDependencies(baseLib, currentDependencies);
+        }
         for (AdditionalApplicationArchiveBuildItem i : additionalApplicationArchives) {
             for (Path path : i.getResolvedPaths()) {
                 if (!path.getParent().equals(userProviders)) {
@@ -315,7 +331,7 @@ public JarBuildItem build() throws IOException {
                     copyDependency(parentFirstArtifactKeys, outputTarget, copiedArtifacts, deploymentLib, baseLib, p -> {
                     }, p -> {
                     }, false, appDep, new TransformedClassesBuildItem(Map.of()), removedArtifactKeys, packageConfig,
-                            manifestConfig, executorService, null); //we don't care about transformation or tree shaking here
+                            manifestConfig, executorService, null, false); //we don't care about transformation or tree shaking here
                 }
                 Map<ArtifactKey, List<String>> relativePaths = new HashMap<>();
                 for (Entry<ArtifactKey, List<Path>> e : copiedArtifacts.entrySet()) {
@@ -403,7 +419,7 @@ private static void copyDependency(Set<ArtifactKey> parentFirstArtifacts, Output
             Consumer<Path> parentFirstDependenciesConsumer, boolean allowParentFirst, ResolvedDependency appDep,
             TransformedClassesBuildItem transformedClasses, Set<ArtifactKey> removedDeps,
             PackageConfig packageConfig, ApplicationManifestConfig.Builder manifestConfig, ExecutorService executorService,
-            JarTreeShakeBuildItem treeShakeResult)
+            JarTreeShakeBuildItem treeShakeResult, boolean reuseExisting)
             throws IOException {
 
         // Exclude files that are not jars (typically, we can have XML files here, see https://github.com/quarkusio/quarkus/issues/2852)
@@ -493,9 +509,12 @@ private static void copyDependency(Set<ArtifactKey> parentFirstArtifacts, Output
                         .setPath(targetPath)
                         .setResolvedDependency(appDep);
                 if (removedFromThisArchive.isEmpty()) {
-                    // let's not use COPY_ATTRIBUTES to make sure we respect the system umask
-                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
-                    Files.setLastModifiedTime(targetPath, Files.getLastModifiedTime(resolvedDep));
+                    FileTime lastModified = Files.getLastModifiedTime(resolvedDep);
+                    if (!reuseExisting || !isUnchangedCopy(resolvedDep, targetPath, lastModified)) {
+                        // let's not use COPY_ATTRIBUTES to make sure we respect the system umask
+                        Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
+                        Files.setLastModifiedTime(targetPath, lastModified);
+                    }
                 } else {
                     // we copy jars for which we remove entries to the same directory
                     // which seems a bit odd to me
@@ -510,6 +529,34 @@ private static void copyDependency(Set<ArtifactKey> parentFirstArtifacts, Output
         }
     }
 
+    private static boolean isUnchangedCopy(Path resolvedDep, Path targetPath, FileTime lastModified) throws IOException {
+        // compare with millisecond precision as not all file systems store the full precision
+        return Files.isRegularFile(targetPath)
+                && Files.size(targetPath) == Files.size(resolvedDep)
+                && Files.getLastModifiedTime(targetPath).toMillis() == lastModified.toMillis();
+    }
+
+    private static void emptyDirExcept(Path dir, Set<Path> kept) throws IOException {
+        try (Stream<Path> children = Files.list(dir)) {
+            for (Path child : children.toList()) {
+                if (!kept.contains(child)) {
+                    IoUtils.recursiveDelete(child);
+                }
+            }
+        }
+    }
+
+    private static void deleteStaleDependencies(Path libDir, Set<Path> currentDependencies) throws IOException {
+        try (Stream<Path> children = Files.list(libDir)) {
+            for (Path child : children.toList()) {
+                if (!currentDependencies.contains(child)) {
+                    LOG.debugf("Removing stale dependency %s", child);
+                    IoUtils.recursiveDelete(child);
+                }
+            }
+        }
+    }
+
     private static void packageClasses(Path resolvedDep, final Path targetPath, PackageConfig packageConfig,
             OutputTargetBuildItem outputTargetBuildItem, ExecutorService executorService) throws IOException {
         try (ArchiveCreator archiveCreator = new ParallelCommonsCompressArchiveCreator(targetPath,
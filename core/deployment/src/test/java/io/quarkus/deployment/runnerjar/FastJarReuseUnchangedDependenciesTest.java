@@ -0,0 +1,96 @@
+package io.quarkus.deployment.runnerjar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import io.quarkus.bootstrap.app.CuratedApplication;
+import io.quarkus.bootstrap.app.QuarkusBootstrap;
+import io.quarkus.bootstrap.resolver.TsArtifact;
+
+/**
+ * Packages the same application twice with {@code quarkus.package.jar.reuse-unchanged-dependencies} enabled
+ * and verifies that only the changed dependency jars are copied again and that stale ones are removed.
+ */
+public class FastJarReuseUnchangedDependenciesTest extends BootstrapFromOriginalJarTestBase {
+
+    private TsArtifact unchangedDep;
+    private TsArtifact changedDep;
+
+    @Override
+    protected TsArtifact composeApplication() {
+        unchangedDep = TsArtifact.jar("unchanged-dep");
+        changedDep = TsArtifact.jar("changed-dep");
+        return TsArtifact.jar("app")
+                .addManagedDependency(platformDescriptor())
+                .addManagedDependency(platformProperties())
+                .addDependency(unchangedDep)
+                .addDependency(changedDep);
+    }
+
+    @Override
+    protected void testBootstrap(QuarkusBootstrap creator) throws Exception {
+        final Path mainLib = build(creator);
+
+        final Path unchangedJar = mainLib.resolve(libFileName(unchangedDep));
+        assertTrue(Files.exists(unchangedJar));
+        final BasicFileAttributes unchangedAttrs = Files.readAttributes(unchangedJar, BasicFileAttributes.class);
+
+        // update the dependency in the local repository, as a rebuild of a workspace module would do
+        final Path changedSource = resolver.resolve(changedDep.toArtifact()).getResolvedPaths().getSinglePath();
+        final FileTime changedSourceTime = Files.getLastModifiedTime(changedSource);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(changedSource))) {
+            out.putNextEntry(new JarEntry("changed.txt"));
+            out.write("changed".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        Files.setLastModifiedTime(changedSource, FileTime.fromMillis(changedSourceTime.toMillis() + 10_000));
+
+        // a jar copied for a dependency which is no longer part of the application
+        final Path staleJar = Files.createFile(mainLib.resolve("org.acme.removed-dep-1.0.jar"));
+
+        assertEquals(mainLib, build(creator));
+
+        assertEquals(unchangedAttrs.lastModifiedTime(), Files.getLastModifiedTime(unchangedJar));
+        if (unchangedAttrs.fileKey() != null) {
+            // the file was not replaced
+            assertEquals(unchangedAttrs.fileKey(),
+                    Files.readAttributes(unchangedJar, BasicFileAttributes.class).fileKey());
+        }
+
+        final Path changedJar = mainLib.resolve(libFileName(changedDep));
+        assertEquals(-1L, Files.mismatch(changedSource, changedJar));
+        assertEquals(Files.getLastModifiedTime(changedSource), Files.getLastModifiedTime(changedJar));
+
+        assertFalse(Files.exists(staleJar));
+    }
+
+    private static Path build(QuarkusBootstrap creator) throws Exception {
+        try (CuratedApplication curated = creator.bootstrap()) {
+            return curated.createAugmentor().createProductionApplication().getJar().getLibraryDir().resolve("main");
+        }
+    }
+
+    private static String libFileName(TsArtifact artifact) {
+        return artifact.getGroupId() + '.' + artifact.getArtifactId() + '-' + artifact.getVersion() + '.'
+                + artifact.getType();
+    }
+
+    @Override
+    protected Properties buildSystemProperties() {
+        var props = new Properties();
+        props.setProperty("quarkus.package.jar.type", "fast-jar");
+        props.setProperty("quarkus.package.jar.reuse-unchanged-dependencies", "true");
+        return props;
+    }
+
+}
@@ -8,9 +8,12 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -216,6 +219,39 @@ public void testPutShouldPopulateCache() {
         }
     }
 
+    @Test
+    public void testGetAllShouldLoadMissingValuesAtOnce() {
+        CaffeineCache caffeineCache = cache.as(CaffeineCache.class);
+        try {
+            caffeineCache.put("bulk-1", CompletableFuture.completedFuture("cached"));
+            List<Set<? extends String>> loaderCalls = new ArrayList<>();
+            Map<String, String> values = caffeineCache.<String, String> getAll(List.of("bulk-1", "bulk-2", "bulk-3"),
+                    keys -> {
+                        loaderCalls.add(Set.copyOf(keys));
+                        Map<String, String> loaded = new HashMap<>();
+                        for (String key : keys) {
+                            loaded.put(key, key + "-loaded");
+                        }
+                        return loaded;
+                    }).await().indefinitely();
+            assertEquals(Map.of("bulk-1", "cached", "bulk-2", "bulk-2-loaded", "bulk-3", "bulk-3-loaded"), values);
+            assertEquals(List.of(Set.of("bulk-2", "bulk-3")), loaderCalls);
+            assertKeySetContains("bulk-1", "bulk-2", "bulk-3");
+
+            // All the values are cached now, the loader is not called again
+            caffeineCache.<String, String> getAll(List.of("bulk-2", "bulk-3"), keys -> {
+                throw new IllegalStateException();
+            }).await().indefinitely();
+
+            caffeineCache.putAll(Map.of("bulk-4", "four", "bulk-5", "five")).await().indefinitely();
+            assertEquals("four", caffeineCache.get("bulk-4", k -> "other").await().indefinitely());
+            assertEquals("five", caffeineCache.get("bulk-5", k -> "other").await().indefinitely());
+        } finally {
+            // invalidate to remove side effects in other tests
+            cache.invalidateIf(k -> k instanceof String && ((String) k).startsWith("bulk-")).await().indefinitely();
+        }
+    }
+
     @Test
     public void testInvalidatePredicate() throws Exception {
         String key = "bravo";
@@ -1,10 +1,13 @@
 package io.quarkus.cache;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import io.smallrye.mutiny.Uni;
+
 public interface CaffeineCache extends Cache {
 
     /**
@@ -43,6 +46,30 @@ public interface CaffeineCache extends Cache {
      */
     <V> void put(Object key, CompletableFuture<V> valueFuture);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the values identified by {@code keys}. The values of all the keys
+     * that are not already cached are obtained with a single invocation of {@code bulkLoader} and stored in the cache.
+     * The {@code bulkLoader} function is invoked synchronously on the subscription thread, in the same way as the value
+     * loader of {@link #get(Object, Function)}. Keys missing from the map returned by {@code bulkLoader} are neither cached
+     * nor included in the emitted map.
+     *
+     * @param keys the cache keys
+     * @param bulkLoader function used to compute the values of the keys that are not already cached
+     * @return a lazy asynchronous action that will emit a map of the keys to their cached values
+     * @throws NullPointerException if {@code keys} is {@code null} or contains a {@code null} key
+     */
+    <K, V> Uni<Map<K, V>> getAll(Iterable<? extends K> keys, Function<Set<? extends K>, Map<K, V>> bulkLoader);
+
+    /**
+     * Returns a lazy asynchronous action that will associate each value of {@code entries} with its key in this cache. If
+     * the cache previously contained a value associated with a key, the old value is replaced.
+     *
+     * @param entries the entries to store in the cache
+     * @return a lazy asynchronous action that will store the entries
+     * @throws NullPointerException if {@code entries} is {@code null} or contains a {@code null} key
+     */
+    <K, V> Uni<Void> putAll(Map<K, V> entries);
+
     /**
      * Changes the duration, initially set from the configuration, after which each entry should be automatically removed from
      * the cache once that duration has elapsed after the entry's creation, or the most recent replacement of its value.
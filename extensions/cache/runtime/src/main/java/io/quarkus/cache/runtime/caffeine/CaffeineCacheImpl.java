@@ -1,12 +1,16 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -231,17 +235,88 @@ private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
+                return unwrapCacheValue(value);
+            }
+        });
+    }
+
+    private static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Iterable<? extends K> keys, Function<Set<? extends K>, Map<K, V>> bulkLoader) {
+        Objects.requireNonNull(keys, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                // The missing values are loaded synchronously, i.e. the executor provided by Caffeine is not used
+                CompletableFuture<Map<Object, Object>> cacheValues = cache.getAll((Iterable<Object>) keys,
+                        new BulkLoaderFunction<>(bulkLoader));
+                return cacheValues.thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> values) {
+                        Map<K, V> result = new LinkedHashMap<>(values.size());
+                        for (Map.Entry<Object, Object> entry : values.entrySet()) {
+                            result.put((K) entry.getKey(), cast(unwrapCacheValue(entry.getValue())));
+                        }
+                        return result;
                     }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
+                });
+            }
+        });
+    }
+
+    private static class BulkLoaderFunction<K, V>
+            implements BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>> {
+
+        private final Function<Set<? extends K>, Map<K, V>> bulkLoader;
+
+        BulkLoaderFunction(Function<Set<? extends K>, Map<K, V>> bulkLoader) {
+            this.bulkLoader = bulkLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Map<Object, Object>> apply(Set<?> keysToLoad, Executor executor) {
+            Map<K, V> loaded;
+            try {
+                loaded = bulkLoader.apply((Set<? extends K>) keysToLoad);
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+            Map<Object, Object> newCacheValues = new HashMap<>(loaded.size());
+            for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                newCacheValues.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+            }
+            return CompletableFuture.completedFuture(newCacheValues);
+        }
+    }
+
+    @Override
+    public <K, V> Uni<Void> putAll(Map<K, V> entries) {
+        Objects.requireNonNull(entries);
+        return Uni.createFrom().item(new Supplier<>() {
+            @Override
+            public Void get() {
+                Map<Object, Object> cacheValues = new HashMap<>(entries.size());
+                for (Map.Entry<K, V> entry : entries.entrySet()) {
+                    cacheValues.put(Objects.requireNonNull(entry.getKey(), NULL_KEYS_NOT_SUPPORTED_MSG),
+                            NullValueConverter.toCacheValue(entry.getValue()));
                 }
+                cache.synchronous().putAll(cacheValues);
+                return null;
             }
         });
     }
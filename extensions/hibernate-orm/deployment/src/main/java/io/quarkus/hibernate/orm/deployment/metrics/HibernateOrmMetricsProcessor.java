@@ -10,6 +10,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.BuildSteps;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateOrmConfig;
@@ -31,12 +32,13 @@ public void metrics(HibernateOrmConfig config,
             List<PersistenceProviderSetUpBuildItem> persistenceUnitsStarted,
             List<JdbcDataSourceSchemaReadyBuildItem> jdbcDataSourceSchemaReadyBuildItems,
             Optional<MetricsCapabilityBuildItem> metricsConfiguration,
+            ShutdownContextBuildItem shutdownContext,
             BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
 
         // IF Hibernate metrics and Hibernate statistics are enabled
         // then define a consumer. It will only be invoked if metrics is enabled
         if (config.metrics().enabled() && config.statistics().orElse(true) && metricsConfiguration.isPresent()) {
-            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory()));
+            datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(metricsRecorder.consumeMetricsFactory(shutdownContext)));
         }
     }
 }
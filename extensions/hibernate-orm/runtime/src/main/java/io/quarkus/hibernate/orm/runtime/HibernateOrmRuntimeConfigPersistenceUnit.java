@@ -2,6 +2,7 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import jakarta.persistence.FlushModeType;
 
@@ -130,6 +131,24 @@ interface HibernateOrmConfigPersistenceUnitDatabase {
          */
         @WithDefault("false")
         boolean startOffline();
+
+        /**
+         * The maximum number of connections a single tenant may use at the same time
+         * when using the `SCHEMA` multi-tenancy strategy, where all tenants share the connection pool of one datasource.
+         *
+         * Once a tenant uses all of its connections, its next requests for a connection wait for one of them to be released,
+         * up to the acquisition timeout of the datasource, so that a single busy tenant cannot exhaust the pool.
+         * Waiting for the connection pool itself is bounded by the same timeout,
+         * so a request for a connection may wait up to twice the acquisition timeout in total.
+         *
+         * Has no effect with the `DATABASE` strategy, where the pool of each tenant datasource is already bounded,
+         * nor with a custom `TenantConnectionResolver`, which is responsible for limiting the connections of each tenant.
+         *
+         * By default, the connections of a tenant are only bounded by the size of the pool.
+         *
+         * @asciidoclet
+         */
+        OptionalInt maxConnectionsPerTenant();
     }
 
     @ConfigGroup
@@ -13,6 +13,8 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionLimiter;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.mutiny.tuples.Tuple2;
@@ -25,10 +27,18 @@ public class HibernateMetricsRecorder {
     private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
     /* RUNTIME_INIT for metrics */
-    public Consumer<MetricsFactory> consumeMetricsFactory() {
+    public Consumer<MetricsFactory> consumeMetricsFactory(ShutdownContext shutdownContext) {
         return new Consumer<MetricsFactory>() {
             @Override
             public void accept(MetricsFactory metricsFactory) {
+                TenantConnectionLimiter.setMetricsFactory(metricsFactory);
+                // Do not keep publishing through the registry of a stopped application, e.g. across dev mode restarts
+                shutdownContext.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        TenantConnectionLimiter.setMetricsFactory(null);
+                    }
+                });
                 JPAConfig jpaConfig = Arc.container().instance(JPAConfig.class).get();
                 for (Tuple2<String, EntityManagerFactory> emf : jpaConfig.getEntityManagerFactories()) {
                     SessionFactory sessionFactory = emf.getItem2().unwrap(SessionFactory.class);
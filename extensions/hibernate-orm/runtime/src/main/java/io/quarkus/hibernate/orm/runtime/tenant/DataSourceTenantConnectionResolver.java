@@ -4,6 +4,7 @@
 import java.sql.SQLException;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.jboss.logging.Logger;
@@ -32,6 +33,10 @@ public class DataSourceTenantConnectionResolver implements TenantConnectionResol
 
     private MultiTenancyStrategy multiTenancyStrategy;
 
+    private OptionalInt maxConnectionsPerTenant = OptionalInt.empty();
+
+    private TenantConnectionLimiter connectionLimiter;
+
     public DataSourceTenantConnectionResolver() {
     }
 
@@ -42,6 +47,12 @@ public DataSourceTenantConnectionResolver(String persistenceUnitName, Optional<S
         this.multiTenancyStrategy = multiTenancyStrategy;
     }
 
+    public DataSourceTenantConnectionResolver(String persistenceUnitName, Optional<String> dataSourceName,
+            MultiTenancyStrategy multiTenancyStrategy, OptionalInt maxConnectionsPerTenant) {
+        this(persistenceUnitName, dataSourceName, multiTenancyStrategy);
+        this.maxConnectionsPerTenant = maxConnectionsPerTenant;
+    }
+
     @Override
     public ConnectionProvider resolve(String tenantId) {
         LOG.debugv("resolve((persistenceUnitName={0}, tenantIdentifier={1})", persistenceUnitName, tenantId);
@@ -55,11 +66,27 @@ public ConnectionProvider resolve(String tenantId) {
         }
         return switch (multiTenancyStrategy) {
             case DATABASE -> new QuarkusConnectionProvider(dataSource);
-            case SCHEMA -> new SchemaTenantConnectionProvider(tenantId, dataSource);
+            case SCHEMA -> new SchemaTenantConnectionProvider(tenantId, dataSource, connectionLimiter(dataSource));
             default -> throw new IllegalStateException("Unexpected multitenancy strategy: " + multiTenancyStrategy);
         };
     }
 
+    /**
+     * All tenants share the same datasource with the {@code SCHEMA} strategy, so that's where their connections are limited.
+     *
+     * @return The limiter shared by all tenants, or {@code null} if tenants are not limited.
+     */
+    private synchronized TenantConnectionLimiter connectionLimiter(AgroalDataSource dataSource) {
+        if (maxConnectionsPerTenant.isEmpty()) {
+            return null;
+        }
+        if (connectionLimiter == null) {
+            connectionLimiter = new TenantConnectionLimiter(persistenceUnitName, maxConnectionsPerTenant.getAsInt(),
+                    dataSource.getConfiguration().connectionPoolConfiguration().acquisitionTimeout());
+        }
+        return connectionLimiter;
+    }
+
     private static AgroalDataSource tenantDataSource(Optional<String> dataSourceName, String tenantId,
             MultiTenancyStrategy strategy) {
         return switch (strategy) {
@@ -79,19 +106,47 @@ private static class SchemaTenantConnectionProvider extends QuarkusConnectionPro
 
         private final String tenantId;
 
-        public SchemaTenantConnectionProvider(String tenantId, AgroalDataSource dataSource) {
+        private final TenantConnectionLimiter connectionLimiter;
+
+        public SchemaTenantConnectionProvider(String tenantId, AgroalDataSource dataSource,
+                TenantConnectionLimiter connectionLimiter) {
             super(dataSource);
             this.tenantId = tenantId;
+            this.connectionLimiter = connectionLimiter;
         }
 
         @Override
         public Connection getConnection() throws SQLException {
+            if (connectionLimiter == null) {
+                return getSchemaConnection();
+            }
+            connectionLimiter.acquire(tenantId);
+            try {
+                return getSchemaConnection();
+            } catch (SQLException | RuntimeException e) {
+                connectionLimiter.release(tenantId);
+                throw e;
+            }
+        }
+
+        private Connection getSchemaConnection() throws SQLException {
             Connection conn = super.getConnection();
             conn.setSchema(tenantId);
             LOG.debugv("Set tenant {0} for connection: {1}", tenantId, conn);
             return conn;
         }
 
+        @Override
+        public void closeConnection(Connection connection) throws SQLException {
+            try {
+                super.closeConnection(connection);
+            } finally {
+                if (connectionLimiter != null) {
+                    connectionLimiter.release(tenantId);
+                }
+            }
+        }
+
     }
 
 }
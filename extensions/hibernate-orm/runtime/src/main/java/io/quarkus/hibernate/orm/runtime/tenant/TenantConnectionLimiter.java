@@ -0,0 +1,147 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Limits the number of connections each tenant may borrow at the same time from a datasource shared by all tenants,
+ * so that a single tenant cannot exhaust the connection pool of the other tenants.
+ */
+public final class TenantConnectionLimiter {
+
+    private static final Logger LOG = Logger.getLogger(TenantConnectionLimiter.class);
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private final String persistenceUnitName;
+    private final int maxConnectionsPerTenant;
+    private final Duration acquisitionTimeout;
+    private final Map<String, TenantPermits> tenants = new ConcurrentHashMap<>();
+
+    /**
+     * @param persistenceUnitName The name of the persistence unit.
+     * @param maxConnectionsPerTenant The maximum number of connections a tenant may borrow at the same time.
+     * @param acquisitionTimeout How long to wait for a connection of the tenant to be released; zero means forever.
+     */
+    TenantConnectionLimiter(String persistenceUnitName, int maxConnectionsPerTenant, Duration acquisitionTimeout) {
+        if (maxConnectionsPerTenant < 1) {
+            throw new IllegalArgumentException("The maximum number of connections per tenant must be at least 1, but was "
+                    + maxConnectionsPerTenant);
+        }
+        this.persistenceUnitName = persistenceUnitName;
+        this.maxConnectionsPerTenant = maxConnectionsPerTenant;
+        this.acquisitionTimeout = acquisitionTimeout;
+    }
+
+    /**
+     * Publishes the statistics of the tenants seen from now on through the given factory, or stops publishing them if
+     * {@code null}.
+     */
+    public static void setMetricsFactory(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    /**
+     * Reserves a connection for the given tenant, waiting for one of its connections to be released if needed.
+     *
+     * @throws SQLException if the tenant still uses all its connections after the acquisition timeout
+     */
+    void acquire(String tenantId) throws SQLException {
+        TenantPermits permits = permits(tenantId);
+        boolean acquired;
+        try {
+            if (acquisitionTimeout.isZero()) {
+                permits.semaphore.acquire();
+                acquired = true;
+            } else {
+                acquired = permits.semaphore.tryAcquire(acquisitionTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(String.format(Locale.ROOT,
+                    "Interrupted while waiting for a connection for tenant '%1$s' of persistence unit '%2$s'", tenantId,
+                    persistenceUnitName), e);
+        }
+        if (!acquired) {
+            permits.rejected.increment();
+            throw new SQLException(String.format(Locale.ROOT,
+                    "Tenant '%1$s' of persistence unit '%2$s' still uses its maximum of %3$d connections after %4$s",
+                    tenantId, persistenceUnitName, maxConnectionsPerTenant, acquisitionTimeout));
+        }
+    }
+
+    /**
+     * Releases a connection previously reserved with {@link #acquire(String)}.
+     */
+    void release(String tenantId) {
+        permits(tenantId).semaphore.release();
+    }
+
+    int activeConnections(String tenantId) {
+        TenantPermits permits = tenants.get(tenantId);
+        return permits == null ? 0 : permits.activeConnections();
+    }
+
+    long rejectedConnections(String tenantId) {
+        TenantPermits permits = tenants.get(tenantId);
+        return permits == null ? 0 : permits.rejected.sum();
+    }
+
+    private TenantPermits permits(String tenantId) {
+        TenantPermits permits = tenants.get(tenantId);
+        if (permits == null) {
+            TenantPermits created = new TenantPermits(maxConnectionsPerTenant);
+            permits = tenants.putIfAbsent(tenantId, created);
+            if (permits == null) {
+                permits = created;
+                registerMetrics(tenantId, created);
+            }
+        }
+        return permits;
+    }
+
+    private void registerMetrics(String tenantId, TenantPermits permits) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        LOG.debugv("Registering connection metrics for tenant {0} of persistence unit {1}", tenantId, persistenceUnitName);
+        factory.builder("hibernate.tenant.connections.active")
+                .description("The number of connections currently borrowed by the tenant")
+                .tag("entityManagerFactory", persistenceUnitName)
+                .tag("tenant", tenantId)
+                .buildGauge(permits, TenantPermits::activeConnections);
+        factory.builder("hibernate.tenant.connections.rejected")
+                .description("The number of connection requests that timed out because the tenant used all its connections")
+                .tag("entityManagerFactory", persistenceUnitName)
+                .tag("tenant", tenantId)
+                .buildCounter(permits, p -> p.rejected.sum());
+    }
+
+    private static final class TenantPermits {
+
+        private final int maxConnections;
+        private final Semaphore semaphore;
+        private final LongAdder rejected = new LongAdder();
+
+        TenantPermits(int maxConnections) {
+            this.maxConnections = maxConnections;
+            // fair, so that the requests of a busy tenant are served in order
+            this.semaphore = new Semaphore(maxConnections, true);
+        }
+
+        int activeConnections() {
+            return maxConnections - semaphore.availablePermits();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.hibernate.orm.runtime.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class TenantConnectionLimiterTestCase {
+
+    @Test
+    public void limitsConnectionsOfEachTenant() throws SQLException {
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("pu", 2, Duration.ofMillis(10));
+
+        limiter.acquire("busy");
+        limiter.acquire("busy");
+        assertThatThrownBy(() -> limiter.acquire("busy"))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("Tenant 'busy' of persistence unit 'pu' still uses its maximum of 2 connections");
+
+        // other tenants are not affected
+        limiter.acquire("quiet");
+
+        assertThat(limiter.activeConnections("busy")).isEqualTo(2);
+        assertThat(limiter.rejectedConnections("busy")).isEqualTo(1);
+        assertThat(limiter.activeConnections("quiet")).isEqualTo(1);
+        assertThat(limiter.rejectedConnections("quiet")).isZero();
+    }
+
+    @Test
+    public void releasedConnectionsCanBeReused() throws SQLException {
+        TenantConnectionLimiter limiter = new TenantConnectionLimiter("pu", 1, Duration.ofMillis(10));
+
+        limiter.acquire("tenant");
+        limiter.release("tenant");
+        limiter.acquire("tenant");
+
+        assertThat(limiter.activeConnections("tenant")).isEqualTo(1);
+        assertThat(limiter.rejectedConnections("tenant")).isZero();
+        assertThat(limiter.activeConnections("unknown")).isZero();
+    }
+}
@@ -1,10 +1,16 @@
 package io.quarkus.jfr.deployment;
 
+import java.lang.reflect.Modifier;
 import java.util.List;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.AnnotationTransformation;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.builder.Version;
 import io.quarkus.deployment.Capabilities;
@@ -27,6 +33,8 @@
 import io.quarkus.jfr.runtime.internal.http.rest.reactive.ServerStartRecordingHandler;
 import io.quarkus.jfr.runtime.internal.runtime.JfrRuntimeBean;
 import io.quarkus.jfr.runtime.internal.runtime.QuarkusRuntimeInfo;
+import io.quarkus.jfr.runtime.internal.scheduler.ScheduledExecutionInterceptor;
+import io.quarkus.jfr.runtime.internal.scheduler.ScheduledExecutionRecorded;
 import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.GlobalHandlerCustomizerBuildItem;
 import io.quarkus.resteasy.reactive.spi.CustomContainerRequestFilterBuildItem;
@@ -34,6 +42,9 @@
 @BuildSteps
 public class JfrProcessor {
 
+    private static final DotName SCHEDULED = DotName.createSimple("io.quarkus.scheduler.Scheduled");
+    private static final DotName SCHEDULES = DotName.createSimple("io.quarkus.scheduler.Scheduled$Schedules");
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.JFR);
@@ -114,6 +125,27 @@ void registerResteasyClassicIntegration(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void registerSchedulerIntegration(Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AnnotationsTransformerBuildItem> annotationsTransformers) {
+        if (capabilities.isPresent(Capability.SCHEDULER)) {
+
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().setUnremovable()
+                    .addBeanClasses(ScheduledExecutionRecorded.class, ScheduledExecutionInterceptor.class)
+                    .build());
+            // Static scheduled methods are invoked directly and are not recorded
+            annotationsTransformers.produce(new AnnotationsTransformerBuildItem(AnnotationTransformation.forMethods()
+                    .whenMethod(JfrProcessor::isScheduledInstanceMethod)
+                    .transform(tc -> tc.add(ScheduledExecutionRecorded.class))));
+        }
+    }
+
+    private static boolean isScheduledInstanceMethod(MethodInfo method) {
+        return !Modifier.isStatic(method.flags())
+                && (method.hasDeclaredAnnotation(SCHEDULED) || method.hasDeclaredAnnotation(SCHEDULES));
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void runtimeInit(JfrRecorder recorder) {
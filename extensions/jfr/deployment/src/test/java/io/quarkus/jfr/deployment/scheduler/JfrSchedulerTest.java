@@ -0,0 +1,84 @@
+package io.quarkus.jfr.deployment.scheduler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Singleton;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.test.QuarkusExtensionTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot(jar -> jar.addClasses(Jobs.class));
+
+    @Test
+    public void testScheduledExecutionEvents() throws Exception {
+        Path dumpPath = Files.createTempFile("scheduler", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.start();
+                Jobs.SUCCESS_LATCH = new CountDownLatch(1);
+                Jobs.FAILURE_LATCH = new CountDownLatch(1);
+                Assertions.assertTrue(Jobs.SUCCESS_LATCH.await(5, TimeUnit.SECONDS));
+                Assertions.assertTrue(Jobs.FAILURE_LATCH.await(5, TimeUnit.SECONDS));
+                // Give the interceptor the time to commit the events
+                Thread.sleep(100);
+                recording.stop();
+                recording.dump(dumpPath);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dumpPath).stream()
+                    .filter(e -> e.getEventType().getName().equals("quarkus.ScheduledExecution")).toList();
+
+            RecordedEvent success = events.stream()
+                    .filter(e -> (Jobs.class.getName() + "#succeed").equals(e.getString("method")))
+                    .findFirst().orElseThrow();
+            Assertions.assertEquals("succeeding", success.getString("triggerId"));
+            Assertions.assertTrue(success.getLong("fireTime") > 0);
+            Assertions.assertNotNull(success.getString("traceId"));
+            Assertions.assertNull(success.getString("failure"));
+            Assertions.assertTrue(success.getDuration().toMillis() >= 50);
+
+            RecordedEvent failure = events.stream()
+                    .filter(e -> (Jobs.class.getName() + "#fail").equals(e.getString("method")))
+                    .findFirst().orElseThrow();
+            Assertions.assertNull(failure.getString("triggerId"));
+            Assertions.assertNotNull(failure.getString("traceId"));
+            Assertions.assertEquals(IllegalStateException.class.getName(), failure.getString("failure"));
+        } finally {
+            Files.deleteIfExists(dumpPath);
+        }
+    }
+
+    @Singleton
+    static class Jobs {
+
+        static volatile CountDownLatch SUCCESS_LATCH = new CountDownLatch(1);
+        static volatile CountDownLatch FAILURE_LATCH = new CountDownLatch(1);
+
+        @Scheduled(identity = "succeeding", every = "1s")
+        void succeed(ScheduledExecution execution) throws InterruptedException {
+            Thread.sleep(50);
+            SUCCESS_LATCH.countDown();
+        }
+
+        @Scheduled(every = "1s")
+        void fail() {
+            FAILURE_LATCH.countDown();
+            throw new IllegalStateException("Expected failure");
+        }
+    }
+}
@@ -10,6 +10,7 @@
 import io.quarkus.jfr.runtime.internal.http.rest.RestPeriodEvent;
 import io.quarkus.jfr.runtime.internal.http.rest.RestStartEvent;
 import io.quarkus.jfr.runtime.internal.runtime.QuarkusRuntimeInfo;
+import io.quarkus.jfr.runtime.internal.scheduler.ScheduledExecutionEvent;
 import io.quarkus.runtime.ImageMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
@@ -36,6 +37,10 @@ public void runtimeInit() {
                 logger.info("quarkus-jfr for REST server is disabled at runtime");
                 this.disabledRestJfr();
             }
+            if (!runtimeConfig.getValue().schedulerEnabled()) {
+                logger.info("quarkus-jfr for Scheduler is disabled at runtime");
+                this.disabledSchedulerJfr();
+            }
         }
     }
 
@@ -45,8 +50,13 @@ public void disabledRestJfr() {
         FlightRecorder.unregister(RestPeriodEvent.class);
     }
 
+    public void disabledSchedulerJfr() {
+        FlightRecorder.unregister(ScheduledExecutionEvent.class);
+    }
+
     public void disabledQuarkusJfr() {
         this.disabledRestJfr();
+        this.disabledSchedulerJfr();
     }
 
     public Supplier<QuarkusRuntimeInfo> quarkusInfoSupplier(String version, List<String> features) {
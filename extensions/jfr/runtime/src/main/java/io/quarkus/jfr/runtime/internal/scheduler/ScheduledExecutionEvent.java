@@ -0,0 +1,70 @@
+package io.quarkus.jfr.runtime.internal.scheduler;
+
+import io.quarkus.jfr.api.SpanIdRelational;
+import io.quarkus.jfr.api.TraceIdRelational;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+@Label("Scheduled Execution")
+@Category({ "Quarkus", "Scheduler" })
+@Name("quarkus.ScheduledExecution")
+@Description("Execution of a scheduled method")
+@StackTrace(false)
+public class ScheduledExecutionEvent extends Event {
+
+    @Label("Trace ID")
+    @Description("Trace ID to identify the execution")
+    @TraceIdRelational
+    protected String traceId;
+
+    @Label("Span ID")
+    @Description("Span ID to identify the execution if necessary")
+    @SpanIdRelational
+    protected String spanId;
+
+    @Label("Method")
+    @Description("Scheduled method which was executed")
+    protected String method;
+
+    @Label("Trigger ID")
+    @Description("Identifier of the trigger which fired the execution, if the method declares a ScheduledExecution parameter")
+    protected String triggerId;
+
+    @Label("Fire Time")
+    @Description("Time when the execution was fired, if the method declares a ScheduledExecution parameter")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    protected long fireTime;
+
+    @Label("Failure")
+    @Description("Class name of the exception thrown by the scheduled method, if any")
+    protected String failure;
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public void setSpanId(String spanId) {
+        this.spanId = spanId;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public void setTriggerId(String triggerId) {
+        this.triggerId = triggerId;
+    }
+
+    public void setFireTime(long fireTime) {
+        this.fireTime = fireTime;
+    }
+
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+}
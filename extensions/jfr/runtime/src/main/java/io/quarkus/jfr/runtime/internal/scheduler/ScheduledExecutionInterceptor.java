@@ -0,0 +1,94 @@
+package io.quarkus.jfr.runtime.internal.scheduler;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.jfr.api.IdProducer;
+import io.quarkus.scheduler.ScheduledExecution;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.tuples.Functions;
+
+/**
+ * Records a {@link ScheduledExecutionEvent} around each invocation of a scheduled method.
+ * <p>
+ * The interceptor runs within the request context activated by the scheduler, so the trace and span IDs of the
+ * execution are available.
+ */
+@ScheduledExecutionRecorded
+@Interceptor
+@Priority(Interceptor.Priority.LIBRARY_BEFORE)
+public class ScheduledExecutionInterceptor {
+
+    @Inject
+    Instance<IdProducer> idProducer;
+
+    @AroundInvoke
+    Object record(InvocationContext context) throws Exception {
+        ScheduledExecutionEvent event = new ScheduledExecutionEvent();
+        if (!event.isEnabled()) {
+            return context.proceed();
+        }
+        event.begin();
+        Method method = context.getMethod();
+        event.setMethod(method.getDeclaringClass().getName() + "#" + method.getName());
+        for (Object parameter : context.getParameters()) {
+            if (parameter instanceof ScheduledExecution execution) {
+                event.setTriggerId(execution.getTrigger().getId());
+                event.setFireTime(execution.getFireTime().toEpochMilli());
+            }
+        }
+        if (Arc.container().requestContext().isActive()) {
+            IdProducer producer = idProducer.get();
+            event.setTraceId(producer.getTraceId());
+            event.setSpanId(producer.getSpanId());
+        }
+
+        Object result;
+        try {
+            result = context.proceed();
+        } catch (Exception e) {
+            complete(event, e);
+            throw e;
+        }
+        // Asynchronous methods complete when the returned stage or Uni completes
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object ignored, Throwable failure) {
+                    complete(event, failure);
+                }
+            });
+            return result;
+        } else if (result instanceof Uni) {
+            @SuppressWarnings("unchecked")
+            Uni<Object> uni = (Uni<Object>) result;
+            return uni.onTermination().invoke(new Functions.TriConsumer<Object, Throwable, Boolean>() {
+                @Override
+                public void accept(Object ignored, Throwable failure, Boolean cancelled) {
+                    complete(event, failure);
+                }
+            });
+        }
+        complete(event, null);
+        return result;
+    }
+
+    private static void complete(ScheduledExecutionEvent event, Throwable failure) {
+        event.end();
+        if (event.shouldCommit()) {
+            if (failure != null) {
+                event.setFailure(failure.getClass().getName());
+            }
+            event.commit();
+        }
+    }
+}
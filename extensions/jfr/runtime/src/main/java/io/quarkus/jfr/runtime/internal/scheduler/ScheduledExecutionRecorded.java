@@ -0,0 +1,19 @@
+package io.quarkus.jfr.runtime.internal.scheduler;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * Added to scheduled methods at build time, so that their executions are recorded as {@link ScheduledExecutionEvent}s.
+ */
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+public @interface ScheduledExecutionRecorded {
+}
@@ -0,0 +1,69 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ConcurrentOverloadDetectorTest {
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_SAMPLES = 50;
+    private static final int IN_FLIGHT_REQUESTS = 30;
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "50")
+            // no probing, so that the lowest request time is not reset in the middle of the test
+            .overrideConfigKey("quarkus.load-shedding.probe-factor", "1000000000")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        // keep enough requests in flight for every sample to be taken into account
+        for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+            detector.requestBegin();
+        }
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // steady request times, the limit grows up to the maximum
+        sampleConcurrently(1_000);
+        assertThat(detector.isOverloaded()).isFalse();
+
+        // request times increase a hundredfold, the limit shrinks again
+        sampleConcurrently(100_000);
+        assertThat(detector.isOverloaded()).isTrue();
+    }
+
+    private void sampleConcurrently(long requestTimeInMicros) throws InterruptedException {
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_SAMPLES; j++) {
+                        detector.requestBegin();
+                        detector.requestEnd(requestTimeInMicros);
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        end.await();
+    }
+}
@@ -2,6 +2,9 @@
 
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -9,6 +12,11 @@
 /**
  * An overload detector based on TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is only ever updated by a single thread at a time, but threads completing a request
+ * never block on each other. When the limit is being updated by another thread, the request time
+ * is recorded into striped accumulators instead, which are merged into the limit computation
+ * by the next thread that performs the update.
  */
 @Singleton
 public class OverloadDetector {
@@ -29,6 +37,11 @@ public class OverloadDetector {
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final LongAccumulator pendingLowestRequestTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAdder pendingSamples = new LongAdder();
+
+    // guarded by `updateLock`
     private long lowestRequestTime = Long.MAX_VALUE;
     private double probeCount = 0.0;
     private double probeJitter;
@@ -54,10 +67,32 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        if (updateLock.tryLock()) {
+            try {
+                mergePending();
+                update(timeInMicros, current);
+            } finally {
+                updateLock.unlock();
+            }
+        } else {
+            pendingLowestRequestTime.accumulate(timeInMicros);
+            pendingSamples.increment();
+        }
+    }
+
+    private void mergePending() {
+        long samples = pendingSamples.sumThenReset();
+        if (samples == 0) {
+            return;
+        }
+        probeCount += samples;
+        long pendingLowest = pendingLowestRequestTime.getThenReset();
+        if (pendingLowest < lowestRequestTime) {
+            lowestRequestTime = pendingLowest;
+        }
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
+    private void update(long requestTime, int currentRequests) {
         probeCount++;
         if (probeFactor * probeJitter * currentLimit <= probeCount) {
             resetProbeJitter();
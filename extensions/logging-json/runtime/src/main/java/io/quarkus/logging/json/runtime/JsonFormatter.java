@@ -3,8 +3,6 @@
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.SPAN_ID;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE;
 import static io.quarkus.logging.json.runtime.JsonFormatter.AdditionalKey.TRACE_SAMPLED;
-import static io.quarkus.logging.json.runtime.JsonLogConfig.AdditionalFieldConfig.Type.STRING;
-import static java.util.Optional.ofNullable;
 
 import java.io.Writer;
 import java.util.HashMap;
@@ -120,48 +118,59 @@ protected Generator createGenerator(final Writer writer) {
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
-
-        if (logFormat.equals(LogFormat.GCP)) {
+        if (logFormat == LogFormat.GCP) {
             final Map<String, String> mdcCopy = record.getMdcCopy();
             if (!mdcCopy.isEmpty()) {
-                Map<String, AdditionalField> current = new HashMap<>(additionalFields);
-                current.computeIfPresent(TRACE.getKey(), (key, value) -> {
-                    final String traceId = mdcCopy.get("traceId");
-                    if (traceId != null && !traceId.isEmpty()) {
-                        return new AdditionalField(tracePrefix + traceId, STRING);
-                    } else {
-                        return value;
-                    }
-                });
-                current.computeIfPresent(SPAN_ID.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("spanId")).orElse(""), STRING));
-                current.computeIfPresent(TRACE_SAMPLED.getKey(),
-                        (key, value) -> new AdditionalField(ofNullable(mdcCopy.get("sampled")).orElse(""), STRING));
-
-                addToGenerator(current, generator);
+                addGcpFieldsToGenerator(mdcCopy, generator);
+                return;
+            }
+        }
+        // fast path
+        addToGenerator(additionalFields, generator);
+    }
+
+    /**
+     * Writes the additional fields, replacing the trace related values with the ones found in the MDC.
+     * This runs for every log record, so the fields are written directly rather than from a per-record copy of
+     * the additional fields.
+     */
+    private void addGcpFieldsToGenerator(Map<String, String> mdcCopy, Generator generator) throws Exception {
+        for (var entry : additionalFields.entrySet()) {
+            final String key = entry.getKey();
+            if (TRACE.getKey().equals(key)) {
+                final String traceId = mdcCopy.get("traceId");
+                if (traceId != null && !traceId.isEmpty()) {
+                    generator.add(key, tracePrefix + traceId);
+                } else {
+                    addToGenerator(key, entry.getValue(), generator);
+                }
+            } else if (SPAN_ID.getKey().equals(key)) {
+                generator.add(key, mdcCopy.getOrDefault("spanId", ""));
+            } else if (TRACE_SAMPLED.getKey().equals(key)) {
+                generator.add(key, mdcCopy.getOrDefault("sampled", ""));
             } else {
-                // fast path
-                addToGenerator(additionalFields, generator);
+                addToGenerator(key, entry.getValue(), generator);
             }
-        } else {
-            // fast path
-            addToGenerator(additionalFields, generator);
         }
     }
 
     private void addToGenerator(Map<String, AdditionalField> fields, Generator generator) throws Exception {
         for (var entry : fields.entrySet()) {
-            switch (entry.getValue().type()) {
-                case STRING:
-                    generator.add(entry.getKey(), entry.getValue().value());
-                    break;
-                case INT:
-                    generator.add(entry.getKey(), Integer.valueOf(entry.getValue().value()));
-                    break;
-                case LONG:
-                    generator.add(entry.getKey(), Long.valueOf(entry.getValue().value()));
-                    break;
-            }
+            addToGenerator(entry.getKey(), entry.getValue(), generator);
+        }
+    }
+
+    private static void addToGenerator(String key, AdditionalField field, Generator generator) throws Exception {
+        switch (field.type()) {
+            case STRING:
+                generator.add(key, field.value());
+                break;
+            case INT:
+                generator.add(key, Integer.parseInt(field.value()));
+                break;
+            case LONG:
+                generator.add(key, Long.parseLong(field.value()));
+                break;
         }
     }
 
@@ -16,6 +16,16 @@ public class HttpCommonTags {
 
     public static final Tag METHOD_UNKNOWN = Tag.of("method", "UNKNOWN");
 
+    // Pre-built status tags for the valid range of status codes, so that recording a request does not allocate them
+    private static final int MIN_CACHED_STATUS = 100;
+    private static final Tag[] STATUS_TAGS = new Tag[500];
+
+    static {
+        for (int i = 0; i < STATUS_TAGS.length; i++) {
+            STATUS_TAGS[i] = Tag.of("status", Integer.toString(MIN_CACHED_STATUS + i));
+        }
+    }
+
     /**
      * Creates an {@code method} {@code Tag} derived from the given {@code HTTP method}.
      *
@@ -33,7 +43,14 @@ public static Tag method(String method) {
      * @return the status tag derived from the status of the response
      */
     public static Tag status(int statusCode) {
-        return (statusCode > 0) ? Tag.of("status", Integer.toString(statusCode)) : STATUS_UNKNOWN;
+        if (statusCode <= 0) {
+            return STATUS_UNKNOWN;
+        }
+        int index = statusCode - MIN_CACHED_STATUS;
+        if (index >= 0 && index < STATUS_TAGS.length) {
+            return STATUS_TAGS[index];
+        }
+        return Tag.of("status", Integer.toString(statusCode));
     }
 
     /**
@@ -1,5 +1,8 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.Tag;
@@ -12,6 +15,15 @@
 public class VertxMetricsTags {
     private static final Logger log = Logger.getLogger(VertxMetricsTags.class);
 
+    // Pre-built method tags for the well-known HTTP methods
+    private static final Map<HttpMethod, Tag> METHOD_TAGS = new HashMap<>();
+
+    static {
+        for (HttpMethod method : HttpMethod.values()) {
+            METHOD_TAGS.put(method, Tag.of("method", method.toString()));
+        }
+    }
+
     /**
      * Creates a {@code method} tag based on the {@link HttpServerRequest#method()}
      * method of the given {@code request}.
@@ -20,7 +32,11 @@ public class VertxMetricsTags {
      * @return the method tag whose value is a capitalized method (e.g. GET).
      */
     public static Tag method(HttpMethod method) {
-        return (method != null) ? Tag.of("method", method.toString()) : HttpCommonTags.METHOD_UNKNOWN;
+        if (method == null) {
+            return HttpCommonTags.METHOD_UNKNOWN;
+        }
+        Tag tag = METHOD_TAGS.get(method);
+        return tag != null ? tag : Tag.of("method", method.toString());
     }
 
     /**
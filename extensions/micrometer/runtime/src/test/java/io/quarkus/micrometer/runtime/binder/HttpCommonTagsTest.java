@@ -16,6 +16,10 @@ public void testStatus() {
         Assertions.assertEquals(Tag.of("status", "301"), HttpCommonTags.status(301));
         Assertions.assertEquals(Tag.of("status", "304"), HttpCommonTags.status(304));
         Assertions.assertEquals(Tag.of("status", "404"), HttpCommonTags.status(404));
+        Assertions.assertEquals(Tag.of("status", "599"), HttpCommonTags.status(599));
+        Assertions.assertEquals(Tag.of("status", "999"), HttpCommonTags.status(999));
+        Assertions.assertEquals(HttpCommonTags.STATUS_UNKNOWN, HttpCommonTags.status(0));
+        Assertions.assertSame(HttpCommonTags.status(200), HttpCommonTags.status(200));
     }
 
     @Test
@@ -71,6 +71,10 @@
 import io.quarkus.deployment.builditem.RunTimeConfigBuilderBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarTreeShakeRootClassBuildItem;
 import io.quarkus.oidc.AuthenticationContext;
 import io.quarkus.oidc.AuthorizationCodeFlow;
 import io.quarkus.oidc.BearerTokenAuthentication;
@@ -240,6 +244,27 @@ public SyntheticBeanBuildItem addDefaultCacheBean(
                 .done();
     }
 
+    @BuildStep(onlyIf = IsCacheEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void registerTokenCacheMetrics(OidcRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        // The consumer is only invoked if a metrics extension is enabled
+        if (metricsCapability.isPresent()) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics()));
+        }
+    }
+
+    @BuildStep
+    void registerCaffeineCacheNodes(BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<JarTreeShakeRootClassBuildItem> treeShakeRoots) {
+        // MemoryCache combines a maximum size with a variable expiry, Caffeine loads the matching node class reflectively
+        // and the Caffeine extension only registers the node classes used by the Quarkus cache
+        String nodeClassName = "com.github.benmanes.caffeine.cache.PSAMS";
+        reflectiveClass.produce(ReflectiveClassBuildItem.builder(nodeClassName).reason(getClass().getName()).build());
+        treeShakeRoots.produce(new JarTreeShakeRootClassBuildItem(nodeClassName));
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
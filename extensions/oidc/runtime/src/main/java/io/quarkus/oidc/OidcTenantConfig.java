@@ -2470,11 +2470,41 @@ public static Token fromAudience(String... audience) {
          */
         public Optional<Boolean> verifyAccessTokenWithUserInfo = Optional.empty();
 
+        /**
+         * Maximum number of locally verified JWT tokens which can be cached.
+         * Set it to a positive value to avoid repeating the signature and claims verification when the same
+         * bearer access token is sent with many requests. ID tokens which are verified without a nonce are cached as well.
+         * The cache is cleared when the JSON Web Key set is refreshed.
+         */
+        public int verifiedTokenCacheSize = 0;
+
+        /**
+         * Maximum amount of time a verified JWT token may stay in the cache.
+         * If this property is not set then cached tokens are evicted only when they expire or the cache is cleared.
+         */
+        public Optional<Duration> verifiedTokenCacheTimeToLive = Optional.empty();
+
         /**
          * Token binding options
          */
         Binding binding = new Binding();
 
+        public int getVerifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
+
+        public void setVerifiedTokenCacheSize(int verifiedTokenCacheSize) {
+            this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        }
+
+        public Optional<Duration> getVerifiedTokenCacheTimeToLive() {
+            return verifiedTokenCacheTimeToLive;
+        }
+
+        public void setVerifiedTokenCacheTimeToLive(Duration verifiedTokenCacheTimeToLive) {
+            this.verifiedTokenCacheTimeToLive = Optional.of(verifiedTokenCacheTimeToLive);
+        }
+
         public Optional<Boolean> isVerifyAccessTokenWithUserInfo() {
             return verifyAccessTokenWithUserInfo;
         }
@@ -2675,6 +2705,8 @@ private void addConfigMappingValues(io.quarkus.oidc.runtime.OidcTenantConfig.Tok
             allowOpaqueTokenIntrospection = mapping.allowOpaqueTokenIntrospection();
             customizerName = mapping.customizerName();
             verifyAccessTokenWithUserInfo = mapping.verifyAccessTokenWithUserInfo();
+            verifiedTokenCacheSize = mapping.verifiedTokenCacheSize();
+            verifiedTokenCacheTimeToLive = mapping.verifiedTokenCacheTimeToLive();
             binding.addConfigMappingValues(mapping.binding());
         }
 
@@ -2793,6 +2825,16 @@ public Optional<String> customizerName() {
         public Optional<Boolean> verifyAccessTokenWithUserInfo() {
             return verifyAccessTokenWithUserInfo;
         }
+
+        @Override
+        public int verifiedTokenCacheSize() {
+            return verifiedTokenCacheSize;
+        }
+
+        @Override
+        public Optional<Duration> verifiedTokenCacheTimeToLive() {
+            return verifiedTokenCacheTimeToLive;
+        }
     }
 
     /**
@@ -40,11 +40,18 @@ public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.introspection = introspection;
         } else {
-            cache.add(token, new CacheEntry(introspection));
+            entry = new CacheEntry(introspection);
+        }
+        Long exp = introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP);
+        if (exp != null) {
+            // Do not keep the introspection result once the token has expired
+            cache.add(token, entry, (exp + getLifespanGrace(oidcTenantConfig)) * 1000);
+        } else {
+            cache.add(token, entry);
         }
 
         return CodeAuthenticationMechanism.VOID_UNI;
@@ -53,29 +60,35 @@ public Uni<Void> addIntrospection(String token, TokenIntrospection introspection
     @Override
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry == null || entry.introspection == null) {
+            cache.recordLookup(false);
             return NULL_INTROSPECTION_UNI;
         }
         if (isTokenExpired(entry.introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP), oidcConfig)) {
             LOG.debug("Introspected token has expired, removing it from the token introspection cache");
             cache.remove(token);
+            cache.recordLookup(false);
             return NULL_INTROSPECTION_UNI;
         }
 
+        cache.recordLookup(true);
         return Uni.createFrom().item(entry.introspection);
     }
 
     private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
-        final long lifespanGrace = oidcConfig != null ? oidcConfig.token().lifespanGrace().orElse(0) : 0;
         return exp != null
-                && System.currentTimeMillis() / 1000 > (exp + lifespanGrace);
+                && System.currentTimeMillis() / 1000 > (exp + getLifespanGrace(oidcConfig));
+    }
+
+    private static long getLifespanGrace(OidcTenantConfig oidcConfig) {
+        return oidcConfig != null ? oidcConfig.token().lifespanGrace().orElse(0) : 0;
     }
 
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.peek(token);
         if (entry != null) {
             entry.userInfo = userInfo;
         } else {
@@ -88,8 +101,10 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
     @Override
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
-        CacheEntry entry = cache.get(token);
-        return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
+        CacheEntry entry = cache.peek(token);
+        boolean hit = entry != null && entry.userInfo != null;
+        cache.recordLookup(hit);
+        return hit ? Uni.createFrom().item(entry.userInfo) : NULL_USERINFO_UNI;
     }
 
     private static class CacheEntry {
@@ -113,6 +128,13 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    /**
+     * @return ratio of the token introspection and UserInfo lookups which were answered from the cache
+     */
+    public double getCacheHitRatio() {
+        return cache.getHitRatio();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
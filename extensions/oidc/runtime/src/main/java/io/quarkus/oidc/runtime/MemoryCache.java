@@ -1,27 +1,48 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Bounded in-memory cache.
+ * <p>
+ * Once the maximum cache size is reached, the entries which are the least likely to be used again are evicted,
+ * the cache is never cleared as a whole. Each entry is valid for the configured time-to-live, or until its own
+ * expiry time if it was set with {@link #add(String, Object, long)}, whichever comes first.
+ */
 public class MemoryCache<T> {
+    private static final Executor SAME_THREAD_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Cache<String, CacheEntry<T>> cache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
     private final int cacheSize;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
         this.cacheSize = cacheSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfter(new CacheEntryExpiry<T>(cacheTimeToLive.toNanos()))
+                // Evictions are cheap, avoid handing them off to the common pool
+                .executor(SAME_THREAD_EXECUTOR)
+                .build();
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -31,7 +52,7 @@ private void init(Vertx vertx, Optional<Duration> cleanUpTimerInterval) {
                 @Override
                 public void handle(Long event) {
                     // Remove all the entries which have expired
-                    removeInvalidEntries();
+                    cache.cleanUp();
                 }
             });
         }
@@ -39,87 +60,125 @@ public void handle(Long event) {
 
     public void add(String key, T result) {
         if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<T>(result));
+            cache.put(key, new CacheEntry<T>(result, Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Add a new entry which must not be returned after the given expiry time.
+     *
+     * @param key the entry key
+     * @param result the entry value
+     * @param expiresAt the expiry time in milliseconds since the epoch
+     */
+    public void add(String key, T result, long expiresAt) {
+        if (cacheSize > 0) {
+            cache.put(key, new CacheEntry<T>(result, expiresAt));
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
+        CacheEntry<T> entry = cache.asMap().remove(key);
         return entry == null ? null : entry.result;
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
+        T result = peek(key);
+        recordLookup(result != null);
+        return result;
+    }
+
+    /**
+     * Returns the cached entry without recording a cache hit or miss, for example to update an existing entry.
+     */
+    public T peek(String key) {
+        CacheEntry<T> entry = cache.getIfPresent(key);
         return entry == null ? null : entry.result;
     }
 
-    public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
-    }
-
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
-            }
+    /**
+     * Records the outcome of a lookup done with {@link #peek(String)}, for callers which can only tell whether
+     * the entry was usable after inspecting it.
+     */
+    public void recordLookup(boolean hit) {
+        if (hit) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
         }
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
+    public boolean containsKey(String key) {
+        return cache.asMap().containsKey(key);
     }
 
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
+    private static class CacheEntry<T> {
+        final T result;
+        final long expiresAt;
+
+        CacheEntry(T result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
         }
-        return entry;
     }
 
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
-    }
+    private static class CacheEntryExpiry<T> implements Expiry<String, CacheEntry<T>> {
+        private final long timeToLiveNanos;
 
-    private static long now() {
-        return System.currentTimeMillis();
-    }
+        CacheEntryExpiry(long timeToLiveNanos) {
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
 
-    private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
+        @Override
+        public long expireAfterCreate(String key, CacheEntry<T> entry, long currentTime) {
+            if (entry.expiresAt == Long.MAX_VALUE) {
+                return timeToLiveNanos;
+            }
+            long remainingMillis = entry.expiresAt - System.currentTimeMillis();
+            return remainingMillis <= 0 ? 0 : Math.min(timeToLiveNanos, Duration.ofMillis(remainingMillis).toNanos());
+        }
 
-        public CacheEntry(T result) {
-            this.result = result;
+        @Override
+        public long expireAfterUpdate(String key, CacheEntry<T> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CacheEntry<T> entry, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 
     public int getCacheSize() {
-        return cacheMap.size();
+        return (int) cache.estimatedSize();
+    }
+
+    /**
+     * @return number of lookups which returned a cached entry
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of lookups which did not find a cached entry
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return ratio of lookups which returned a cached entry, {@code 1.0} if there were no lookups yet
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+        return requests == 0 ? 1.0 : (double) hits / requests;
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        cache.invalidateAll();
+        cache.cleanUp();
     }
 
     public void stopTimer(Vertx vertx) {
@@ -7,12 +7,14 @@
 import java.io.Closeable;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -75,6 +77,7 @@ public class OidcProvider implements Closeable {
     static final AlgorithmConstraints ASYMMETRIC_ALGORITHM_CONSTRAINTS = new AlgorithmConstraints(
             AlgorithmConstraints.ConstraintType.PERMIT, ASYMMETRIC_SUPPORTED_ALGORITHMS);
     static final String ANY_ISSUER = "any";
+    private static final Duration DEFAULT_VERIFIED_TOKEN_CACHE_TIME_TO_LIVE = Duration.ofDays(1);
 
     private final List<Validator> customValidators;
     final OidcProviderClientImpl client;
@@ -86,6 +89,7 @@ public class OidcProvider implements Closeable {
     final String[] audience;
     final Map<String, Set<String>> requiredClaims;
     final AlgorithmConstraints requiredAlgorithmConstraints;
+    final MemoryCache<TokenVerificationResult> verifiedTokenCache;
 
     public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig, JsonWebKeySet jwks) {
         this(client, oidcConfig, jwks, TenantFeatureFinder.find(oidcConfig),
@@ -115,6 +119,7 @@ public OidcProvider(OidcProviderClientImpl client, OidcTenantConfig oidcConfig,
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = customValidators == null ? List.of() : customValidators;
+        this.verifiedTokenCache = createVerifiedTokenCache();
         if (client != null) {
             this.client.setOidcProvider(this);
         }
@@ -137,6 +142,16 @@ public OidcProvider(String publicKeyEnc, OidcTenantConfig oidcConfig) {
         this.requiredClaims = checkRequiredClaimsProp();
         this.requiredAlgorithmConstraints = checkSignatureAlgorithm();
         this.customValidators = TenantFeatureFinder.find(oidcConfig, Validator.class);
+        this.verifiedTokenCache = createVerifiedTokenCache();
+    }
+
+    private MemoryCache<TokenVerificationResult> createVerifiedTokenCache() {
+        if (oidcConfig != null && oidcConfig.token().verifiedTokenCacheSize() > 0) {
+            return new MemoryCache<>(null, Optional.empty(),
+                    oidcConfig.token().verifiedTokenCacheTimeToLive().orElse(DEFAULT_VERIFIED_TOKEN_CACHE_TIME_TO_LIVE),
+                    oidcConfig.token().verifiedTokenCacheSize());
+        }
+        return null;
     }
 
     private AlgorithmConstraints checkSignatureAlgorithm() {
@@ -179,9 +194,51 @@ public TokenVerificationResult verifySelfSignedJwtToken(String token, Key genera
     public TokenVerificationResult verifyJwtToken(String token, boolean enforceAudienceVerification, boolean subjectRequired,
             String nonce)
             throws InvalidJwtException {
-        return verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification, subjectRequired, nonce,
+        final String cacheKey = verifiedTokenCache != null && nonce == null
+                ? getVerifiedTokenCacheKey(token, enforceAudienceVerification, subjectRequired)
+                : null;
+        if (cacheKey != null) {
+            TokenVerificationResult cachedResult = verifiedTokenCache.get(cacheKey);
+            if (cachedResult != null) {
+                LOG.trace("JWT token has already been verified");
+                return cachedResult;
+            }
+        }
+        TokenVerificationResult result = verifyJwtTokenInternal(customizeJwtToken(token), enforceAudienceVerification,
+                subjectRequired, nonce,
                 (requiredAlgorithmConstraints != null ? requiredAlgorithmConstraints : ASYMMETRIC_ALGORITHM_CONSTRAINTS),
                 asymmetricKeyResolver, true, oidcConfig.token().issuedAtRequired());
+        if (cacheKey != null) {
+            cacheVerifiedToken(cacheKey, result);
+        }
+        return result;
+    }
+
+    private static String getVerifiedTokenCacheKey(String token, boolean enforceAudienceVerification,
+            boolean subjectRequired) {
+        try {
+            String digest = Base64.getUrlEncoder().withoutPadding().encodeToString(OidcUtils.getSha256Digest(token));
+            return (enforceAudienceVerification ? "a" : "-") + (subjectRequired ? "s" : "-") + digest;
+        } catch (NoSuchAlgorithmException ex) {
+            LOG.debugf("Verified JWT token can not be cached: %s", ex.getMessage());
+            return null;
+        }
+    }
+
+    private void cacheVerifiedToken(String cacheKey, TokenVerificationResult result) {
+        final Long exp = result.localVerificationResult.getLong(Claims.exp.name());
+        if (exp == null) {
+            return;
+        }
+        long expiresAt = (exp + getLifespanGrace()) * 1000;
+        if (oidcConfig.token().age().isPresent()) {
+            final Long iat = result.localVerificationResult.getLong(Claims.iat.name());
+            if (iat != null) {
+                expiresAt = Math.min(expiresAt,
+                        (iat + oidcConfig.token().age().get().toSeconds() + getLifespanGrace()) * 1000);
+            }
+        }
+        verifiedTokenCache.add(cacheKey, result, expiresAt);
     }
 
     public TokenVerificationResult verifyLogoutJwtToken(String token) throws InvalidJwtException {
@@ -511,9 +568,12 @@ public void close() {
         if (client != null) {
             client.close();
         }
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.clearCache();
+        }
     }
 
-    private class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
+    class JsonWebKeyResolver implements RefreshableVerificationKeyResolver {
         volatile JsonWebKeySet jwks;
         volatile long lastForcedRefreshTime;
         volatile long forcedJwksRefreshIntervalMilliSecs;
@@ -633,7 +693,7 @@ public Uni<Void> refresh() {
 
                             @Override
                             public Uni<? extends Void> apply(JsonWebKeySet t) {
-                                jwks = t;
+                                setJsonWebKeySet(t);
                                 return Uni.createFrom().voidItem();
                             }
 
@@ -643,6 +703,14 @@ public Uni<? extends Void> apply(JsonWebKeySet t) {
             }
         }
 
+        void setJsonWebKeySet(JsonWebKeySet newJwks) {
+            jwks = newJwks;
+            // tokens verified with the keys which have been rotated out must be verified again
+            if (verifiedTokenCache != null) {
+                verifiedTokenCache.clearCache();
+            }
+        }
+
     }
 
     private static class LocalPublicKeyResolver implements RefreshableVerificationKeyResolver {
@@ -14,6 +14,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.oidc.Oidc;
@@ -21,6 +22,7 @@
 import io.quarkus.oidc.TenantIdentityProvider;
 import io.quarkus.proxy.ProxyConfigurationRegistry;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
@@ -54,6 +56,26 @@ public DefaultTokenIntrospectionUserInfoCache get() {
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                InstanceHandle<DefaultTokenIntrospectionUserInfoCache> handle = Arc.container()
+                        .instance(DefaultTokenIntrospectionUserInfoCache.class);
+                if (!handle.isAvailable()) {
+                    return;
+                }
+                DefaultTokenIntrospectionUserInfoCache cache = handle.get();
+                metricsFactory.builder("oidc.token.cache.hit.ratio")
+                        .description("Ratio of the token introspection and UserInfo lookups answered from the cache")
+                        .buildGauge(cache::getCacheHitRatio);
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("Number of entries in the token introspection and UserInfo cache")
+                        .buildGauge(cache::getCacheSize);
+            }
+        };
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
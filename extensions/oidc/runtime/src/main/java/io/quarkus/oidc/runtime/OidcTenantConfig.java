@@ -1292,6 +1292,27 @@ interface Token {
         @ConfigDocDefault("false")
         Optional<Boolean> verifyAccessTokenWithUserInfo();
 
+        /**
+         * Maximum number of locally verified JWT tokens which can be cached.
+         * Set it to a positive value to avoid repeating the signature and claims verification when the same
+         * bearer access token is sent with many requests. ID tokens which are verified without a nonce,
+         * for example, the ID tokens kept in the session cookie, are cached as well.
+         * Tokens are cached by their SHA-256 digest only until they expire, taking `quarkus.oidc.token.lifespan-grace`
+         * and `quarkus.oidc.token.age` into account.
+         * The cache is cleared when the JSON Web Key set is refreshed, so tokens signed with a key which has been rotated
+         * are verified again.
+         * This property has no effect on the tokens which are verified remotely with the token introspection.
+         */
+        @WithDefault("0")
+        int verifiedTokenCacheSize();
+
+        /**
+         * Maximum amount of time a verified JWT token may stay in the cache.
+         * If this property is not set then cached tokens are evicted only when they expire or the cache is cleared.
+         * This property has no effect if `quarkus.oidc.token.verified-token-cache-size` is not a positive value.
+         */
+        Optional<Duration> verifiedTokenCacheTimeToLive();
+
         /**
          * Token certificate binding options.
          */
@@ -30,7 +30,8 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
             Optional<String> decryptionKeyLocation, Optional<Boolean> decryptIdToken, boolean decryptAccessToken,
             boolean allowJwtIntrospection, boolean requireJwtIntrospectionOnly,
             boolean allowOpaqueTokenIntrospection, Optional<String> customizerName,
-            Optional<Boolean> verifyAccessTokenWithUserInfo, Binding binding) implements OidcTenantConfig.Token {
+            Optional<Boolean> verifyAccessTokenWithUserInfo, int verifiedTokenCacheSize,
+            Optional<Duration> verifiedTokenCacheTimeToLive, Binding binding) implements OidcTenantConfig.Token {
     }
 
     private final OidcTenantConfigBuilder builder;
@@ -57,6 +58,8 @@ private record TokenImpl(Optional<String> issuer, Optional<List<String>> audienc
     private boolean allowOpaqueTokenIntrospection;
     private Optional<String> customizerName;
     private Optional<Boolean> verifyAccessTokenWithUserInfo;
+    private int verifiedTokenCacheSize;
+    private Optional<Duration> verifiedTokenCacheTimeToLive;
     private Binding binding;
 
     public TokenConfigBuilder() {
@@ -93,6 +96,8 @@ public TokenConfigBuilder(OidcTenantConfigBuilder builder) {
         this.allowOpaqueTokenIntrospection = token.allowOpaqueTokenIntrospection();
         this.customizerName = token.customizerName();
         this.verifyAccessTokenWithUserInfo = token.verifyAccessTokenWithUserInfo();
+        this.verifiedTokenCacheSize = token.verifiedTokenCacheSize();
+        this.verifiedTokenCacheTimeToLive = token.verifiedTokenCacheTimeToLive();
         this.binding = token.binding();
     }
 
@@ -454,6 +459,24 @@ public TokenConfigBuilder verifyAccessTokenWithUserInfo(boolean verifyAccessToke
         return this;
     }
 
+    /**
+     * @param verifiedTokenCacheSize {@link OidcTenantConfig.Token#verifiedTokenCacheSize()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedTokenCacheSize(int verifiedTokenCacheSize) {
+        this.verifiedTokenCacheSize = verifiedTokenCacheSize;
+        return this;
+    }
+
+    /**
+     * @param verifiedTokenCacheTimeToLive {@link OidcTenantConfig.Token#verifiedTokenCacheTimeToLive()}
+     * @return this builder
+     */
+    public TokenConfigBuilder verifiedTokenCacheTimeToLive(Duration verifiedTokenCacheTimeToLive) {
+        this.verifiedTokenCacheTimeToLive = Optional.ofNullable(verifiedTokenCacheTimeToLive);
+        return this;
+    }
+
     /**
      * binding {@link OidcTenantConfig.Token#binding()}
      *
@@ -491,7 +514,7 @@ public OidcTenantConfig.Token build() {
                 decryptIdToken,
                 decryptAccessToken, allowJwtIntrospection, requireJwtIntrospectionOnly, allowOpaqueTokenIntrospection,
                 customizerName,
-                verifyAccessTokenWithUserInfo, binding);
+                verifyAccessTokenWithUserInfo, verifiedTokenCacheSize, verifiedTokenCacheTimeToLive, binding);
     }
 
     /**
@@ -80,15 +80,52 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
-
+        // If the cache is full and a new entry has to be added, then only a single entry is evicted
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
+    }
 
-        assertNull(cache.get("1"));
+    @Test
+    public void testEntryExpiry() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 1 minute
+                Duration.ofMinutes(1),
+                // max cache size
+                2);
+
+        cache.add("1", new Bean("1"), System.currentTimeMillis() + 500);
+        cache.add("2", new Bean("2"), System.currentTimeMillis() - 1);
+        assertEquals("1", cache.get("1").name);
         assertNull(cache.get("2"));
-        assertEquals("3", cache.get("3").name);
+        assertEquals(0.5, cache.getHitRatio());
+
+        await().atMost(Duration.ofSeconds(5)).until(new Callable<Boolean>() {
+
+            @Override
+            public Boolean call() throws Exception {
+                return cache.get("1") == null;
+            }
+
+        });
+        assertTrue(cache.getMissCount() >= 2);
+    }
+
+    @Test
+    public void testPeekIsNotCounted() {
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx, Optional.empty(), Duration.ofMinutes(1), 2);
+
+        cache.add("1", new Bean("1"));
+        assertEquals("1", cache.peek("1").name);
+        assertNull(cache.peek("2"));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+
+        cache.recordLookup(false);
+        assertEquals("1", cache.get("1").name);
+        assertEquals(0.5, cache.getHitRatio());
     }
 
     static class Bean {
@@ -1,7 +1,9 @@
 package io.quarkus.oidc.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -67,6 +69,61 @@ public JsonObject customizeHeaders(JsonObject headers) {
         }
     }
 
+    @Test
+    public void testVerifiedTokenCache() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        final String token = Jwt.issuer("http://keycloak/realm").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+        final String token2 = Jwt.issuer("http://keycloak/realm2").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.setVerifiedTokenCacheSize(1);
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet)) {
+            TokenVerificationResult result = provider.verifyJwtToken(token, false, false, null);
+            assertEquals("http://keycloak/realm", result.localVerificationResult.getString("iss"));
+            assertSame(result, provider.verifyJwtToken(token, false, false, null));
+            assertNotSame(result, provider.verifyJwtToken(token, true, false, null));
+
+            TokenVerificationResult result2 = provider.verifyJwtToken(token2, false, false, null);
+            assertEquals("http://keycloak/realm2", result2.localVerificationResult.getString("iss"));
+            assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+        }
+    }
+
+    @Test
+    public void testVerifiedTokenCacheIsClearedWhenKeysAreRefreshed() throws Exception {
+        RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rsaJsonWebKey.setKeyId("k1");
+        JsonWebKeySet jwkSet = new JsonWebKeySet("{\"keys\": [" + rsaJsonWebKey.toJson() + "]}");
+
+        RsaJsonWebKey rotatedJsonWebKey = RsaJwkGenerator.generateJwk(2048);
+        rotatedJsonWebKey.setKeyId("k2");
+        JsonWebKeySet rotatedJwkSet = new JsonWebKeySet("{\"keys\": [" + rotatedJsonWebKey.toJson() + "]}");
+
+        final String token = Jwt.issuer("http://keycloak/realm").jws().keyId("k1").sign(rsaJsonWebKey.getPrivateKey());
+
+        OidcTenantConfig oidcConfig = new OidcTenantConfig();
+        oidcConfig.token.setVerifiedTokenCacheSize(1);
+
+        try (OidcProvider provider = new OidcProvider(null, oidcConfig, jwkSet)) {
+            provider.verifyJwtToken(token, false, false, null);
+            assertEquals(1, provider.verifiedTokenCache.getCacheSize());
+
+            ((OidcProvider.JsonWebKeyResolver) provider.asymmetricKeyResolver).setJsonWebKeySet(rotatedJwkSet);
+            assertEquals(0, provider.verifiedTokenCache.getCacheSize());
+
+            try {
+                provider.verifyJwtToken(token, false, false, null);
+                fail("InvalidJwtException expected");
+            } catch (InvalidJwtException ex) {
+                assertTrue(ex.getCause() instanceof UnresolvableKeyException);
+            }
+        }
+    }
+
     @Test
     public void testTokenWithoutKidSingleRsaJwkWithoutKid() throws Exception {
         RsaJsonWebKey rsaJsonWebKey = RsaJwkGenerator.generateJwk(2048);
@@ -1,6 +1,7 @@
 package io.quarkus.oidc.runtime;
 
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -14,6 +15,7 @@
 
 import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.TokenIntrospectionCache;
+import io.quarkus.oidc.UserInfo;
 
 public class TokenIntrospectionCacheTest {
     TokenIntrospectionCache cache = new DefaultTokenIntrospectionUserInfoCache(createOidcConfig(), null);
@@ -47,6 +49,27 @@ public Boolean call() throws Exception {
         assertNull(cache.getIntrospection("tokenValidFor3secs", null, null).await().indefinitely());
     }
 
+    @Test
+    public void testCacheHitRatio() {
+        DefaultTokenIntrospectionUserInfoCache introspectionUserInfoCache = new DefaultTokenIntrospectionUserInfoCache(
+                createOidcConfig(), null);
+
+        // adding entries is not a lookup
+        introspectionUserInfoCache.addIntrospection("token", new TokenIntrospection("{\"active\": true}"), null, null);
+        assertEquals(1.0, introspectionUserInfoCache.getCacheHitRatio());
+
+        // the entry has no UserInfo yet
+        assertNull(introspectionUserInfoCache.getUserInfo("token", null, null).await().indefinitely());
+        assertEquals(0.0, introspectionUserInfoCache.getCacheHitRatio());
+
+        assertNotNull(introspectionUserInfoCache.getIntrospection("token", null, null).await().indefinitely());
+        assertEquals(0.5, introspectionUserInfoCache.getCacheHitRatio());
+
+        introspectionUserInfoCache.addUserInfo("token", new UserInfo("{\"sub\": \"alice\"}"), null, null);
+        assertNotNull(introspectionUserInfoCache.getUserInfo("token", null, null).await().indefinitely());
+        assertEquals(2.0 / 3, introspectionUserInfoCache.getCacheHitRatio());
+    }
+
     private static OidcConfig createOidcConfig() {
         record OidcConfigImpl(OidcTenantConfig defaultTenant, Map<String, OidcTenantConfig> namedTenants, TokenCache tokenCache,
                 boolean resolveTenantsWithIssuer, int priority) implements OidcConfig {
@@ -52,6 +52,11 @@ public final class VertxHttpSender implements HttpSender {
 
     private static final int MAX_ATTEMPTS = 3;
 
+    // The size of the deflater output buffer; the default of 512 bytes results in many small writes to the target buffer
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+    // OTLP payloads usually compress very well, so we do not reserve the full uncompressed size up front
+    private static final int GZIP_EXPECTED_RATIO = 4;
+
     private final String basePath;
     private final boolean compressionEnabled;
     private final Map<String, String> headers;
@@ -309,11 +314,12 @@ public byte[] getResponseBody() {
             })
                     .putHeader("Content-Type", contentType);
 
-            Buffer buffer = Buffer.buffer(requestBodyWriter.getContentLength());
+            int contentLength = requestBodyWriter.getContentLength();
+            Buffer buffer = Buffer.buffer(compressionEnabled ? contentLength / GZIP_EXPECTED_RATIO : contentLength);
             OutputStream os = new BufferOutputStream(buffer);
             if (compressionEnabled) {
                 clientRequest.putHeader("Content-Encoding", "gzip");
-                try (var gzos = new GZIPOutputStream(os)) {
+                try (var gzos = new GZIPOutputStream(os, GZIP_BUFFER_SIZE)) {
                     requestBodyWriter.writeMessage(gzos);
                 } catch (IOException e) {
                     throw new IllegalStateException(e);
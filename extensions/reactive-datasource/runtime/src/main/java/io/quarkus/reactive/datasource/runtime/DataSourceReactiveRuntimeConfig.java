@@ -26,6 +26,23 @@ public interface DataSourceReactiveRuntimeConfig {
     @ConfigDocDefault("true for PostgreSQL/MySQL/MariaDB/Db2, false otherwise")
     Optional<Boolean> cachePreparedStatements();
 
+    /**
+     * The maximum number of prepared statements cached by each connection, when prepared statements are cached.
+     * <p>
+     * Statements evicted from a full cache must be prepared again by the database the next time they are used,
+     * so this should be at least the number of distinct queries that an application runs frequently.
+     */
+    @ConfigDocDefault("256")
+    OptionalInt preparedStatementCacheMaxSize();
+
+    /**
+     * The maximum length of the SQL of a prepared statement for it to be cached, when prepared statements are cached.
+     * <p>
+     * Longer statements are prepared again every time they are executed.
+     */
+    @ConfigDocDefault("2048")
+    OptionalInt preparedStatementCacheSqlLimit();
+
     /**
      * The datasource URLs.
      * <p>
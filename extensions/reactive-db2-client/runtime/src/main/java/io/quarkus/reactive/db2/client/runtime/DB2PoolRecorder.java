@@ -225,6 +225,10 @@ private DB2ConnectOptions toConnectOptions(String dataSourceName, DataSourceRunt
 
         connectOptions.setCachePreparedStatements(
                 dataSourceReactiveRuntimeConfig.cachePreparedStatements().orElse(SUPPORTS_CACHE_PREPARED_STATEMENTS));
+        dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                .ifPresent(connectOptions::setPreparedStatementCacheMaxSize);
+        dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                .ifPresent(connectOptions::setPreparedStatementCacheSqlLimit);
 
         connectOptions.setSsl(dataSourceReactiveDB2Config.ssl());
 
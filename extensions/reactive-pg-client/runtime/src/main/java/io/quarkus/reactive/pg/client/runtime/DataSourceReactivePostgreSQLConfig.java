@@ -13,7 +13,11 @@ public interface DataSourceReactivePostgreSQLConfig {
 
     /**
      * The maximum number of inflight database commands that can be pipelined.
+     * <p>
+     * Commands sent on the same connection without waiting for the previous responses are pipelined,
+     * which saves round trips when a connection runs many independent queries.
      */
+    @ConfigDocDefault("256")
     OptionalInt pipeliningLimit();
 
     /**
@@ -219,6 +219,10 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
 
             pgConnectOptions.setCachePreparedStatements(
                     dataSourceReactiveRuntimeConfig.cachePreparedStatements().orElse(SUPPORTS_CACHE_PREPARED_STATEMENTS));
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheMaxSize()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheMaxSize);
+            dataSourceReactiveRuntimeConfig.preparedStatementCacheSqlLimit()
+                    .ifPresent(pgConnectOptions::setPreparedStatementCacheSqlLimit);
 
             if (dataSourceReactivePostgreSQLConfig.pipeliningLimit().isPresent()) {
                 pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit().getAsInt());
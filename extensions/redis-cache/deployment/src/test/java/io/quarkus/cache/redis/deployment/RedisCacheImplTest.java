@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -105,6 +106,96 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testNearCache() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+
+        // Remove the key from Redis directly, the near cache still holds the value
+        redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+
+        // Invalidation removes the value from both tiers
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+        assertThat(cache.get(k, s -> "world").await().indefinitely()).isEqualTo("world");
+
+        cache.put(k, "bonjour").await().indefinitely();
+        assertThat(cache.getOrDefault(k, String.class, "default").await().indefinitely()).isEqualTo("bonjour");
+
+        cache.invalidateAll().await().indefinitely();
+        assertThat(cache.getOrDefault(k, String.class, "default").await().indefinitely()).isEqualTo("default");
+    }
+
+    @Test
+    public void testNearCacheDoesNotKeepValueReadDuringInvalidation() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // The invalidation completes while the value is being loaded
+        assertThat(cache.getAsync(k, key -> cache.invalidate(key).replaceWith("stale")).await().indefinitely())
+                .isEqualTo("stale");
+
+        redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testNearCacheExpiresWithRedisEntry() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(1));
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        info.nearCacheExpireAfterWrite = Duration.ofMinutes(10);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> cache.getOrNull(k, String.class).await().indefinitely() == null);
+    }
+
+    @Test
+    public void testNearCacheDisabledWithExpireAfterAccess() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterAccess = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        redis.send(Request.cmd(Command.DEL).arg("cache:foo:" + k)).await().indefinitely();
+        assertThat(cache.getOrNull(k, String.class).await().indefinitely()).isNull();
+    }
+
+    @Test
+    public void testNearCacheChecksValueType() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.nearCacheMaximumSize = OptionalLong.of(100);
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.put(k, 42).await().indefinitely();
+        assertThat(cache.getOrNull(k, Integer.class).await().indefinitely()).isEqualTo(42);
+        // The near cache holds an Integer, the value is read from Redis instead
+        assertThat(cache.getOrNull(k, Long.class).await().indefinitely()).isEqualTo(42L);
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String redisUrl = ConfigProvider.getConfig().getValue("quarkus.redis.hosts", String.class);
@@ -8,6 +8,7 @@
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -17,6 +18,9 @@
 
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
@@ -57,6 +61,12 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // The optional in-process near cache; keys are the actual Redis keys
+    private final Cache<String, NearCacheEntry> nearCache;
+    // Incremented before and after each invalidation, so that values read from Redis before the invalidation
+    // completed are not stored in the near cache
+    private final AtomicLong nearCacheEpoch = new AtomicLong();
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +98,23 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+        if (cacheInfo.nearCacheMaximumSize.isPresent() && cacheInfo.expireAfterAccess.isPresent()) {
+            // near cache hits would not refresh the expiration of the entry in Redis
+            log.warnf("The near cache of the Redis cache %s is disabled because expire-after-access is set", getName());
+            this.nearCache = null;
+        } else if (cacheInfo.nearCacheMaximumSize.isPresent()) {
+            Duration expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite;
+            if (cacheInfo.expireAfterWrite.isPresent() && cacheInfo.expireAfterWrite.get().compareTo(expireAfterWrite) < 0) {
+                // never serve a value that already expired in Redis
+                expireAfterWrite = cacheInfo.expireAfterWrite.get();
+            }
+            this.nearCache = Caffeine.newBuilder()
+                    .maximumSize(cacheInfo.nearCacheMaximumSize.getAsLong())
+                    .expireAfterWrite(expireAfterWrite)
+                    .build();
+        } else {
+            this.nearCache = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,9 +185,14 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearCached = getFromNearCache(actualKey, type);
+        if (nearCached != null) {
+            return Uni.createFrom().item(nearCached);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        Uni<V> result = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -219,6 +251,7 @@ public Uni<? extends V> apply(Throwable e) {
                         return computeValue(key, valueLoader, isWorkerThread);
                     }
                 });
+        return storeInNearCache(actualKey, type, result);
     }
 
     @Override
@@ -238,8 +271,13 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearCached = getFromNearCache(actualKey, type);
+        if (nearCached != null) {
+            return Uni.createFrom().item(nearCached);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<V> result = withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -280,6 +318,7 @@ public Uni<V> apply(RedisConnection connection) {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
+        return storeInNearCache(actualKey, type, result);
     }
 
     @Override
@@ -289,14 +328,25 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
-        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
+        Uni<Void> result = withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
         });
+        if (nearCache != null) {
+            return result.invoke(new Runnable() {
+                @Override
+                public void run() {
+                    nearCache.put(actualKey, new NearCacheEntry(value.getClass(), value));
+                }
+            });
+        }
+        return result;
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +375,7 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
-            @Override
-            public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
-            }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        return getOrNull(key, type).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,20 +395,46 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        V nearCached = getFromNearCache(actualKey, type);
+        if (nearCached != null) {
+            return Uni.createFrom().item(nearCached);
+        }
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return storeInNearCache(actualKey, type, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        });
+        }));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<Void> result = redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
+        if (nearCache == null) {
+            return result;
+        }
+        Runnable invalidateNearEntry = new Runnable() {
+            @Override
+            public void run() {
+                nearCacheEpoch.incrementAndGet();
+                nearCache.invalidate(actualKey);
+            }
+        };
+        // Before DEL so that this instance stops serving the entry, and after DEL so that a concurrent read of
+        // the previous value cannot put it back
+        return Uni.createFrom().voidItem().invoke(invalidateNearEntry)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return result;
+                    }
+                })
+                .invoke(invalidateNearEntry);
     }
 
     @Override
@@ -374,6 +444,33 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        if (nearCache == null) {
+            return invalidateInRedis(predicate);
+        }
+        Runnable invalidateNearEntries = new Runnable() {
+            @Override
+            public void run() {
+                nearCacheEpoch.incrementAndGet();
+                nearCache.asMap().keySet().removeIf(new Predicate<String>() {
+                    @Override
+                    public boolean test(String key) {
+                        return predicate.test(computeUserKey(key));
+                    }
+                });
+            }
+        };
+        // See invalidate(Object)
+        return Uni.createFrom().voidItem().invoke(invalidateNearEntries)
+                .chain(new Supplier<Uni<? extends Void>>() {
+                    @Override
+                    public Uni<? extends Void> get() {
+                        return invalidateInRedis(predicate);
+                    }
+                })
+                .invoke(invalidateNearEntries);
+    }
+
+    private Uni<Void> invalidateInRedis(Predicate<Object> predicate) {
         return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
@@ -457,6 +554,46 @@ private String getKeyPrefix() {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String actualKey, Type type) {
+        if (nearCache == null) {
+            return null;
+        }
+        NearCacheEntry entry = nearCache.getIfPresent(actualKey);
+        if (entry == null) {
+            return null;
+        }
+        if (Objects.equals(entry.type, type) || (type instanceof Class<?> && ((Class<?>) type).isInstance(entry.value))) {
+            return (V) entry.value;
+        }
+        // The value was stored for another type, read it from Redis
+        return null;
+    }
+
+    private <V> Uni<V> storeInNearCache(String actualKey, Type type, Uni<V> uni) {
+        if (nearCache == null) {
+            return uni;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                long epoch = nearCacheEpoch.get();
+                return uni.invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (value != null && nearCacheEpoch.get() == epoch) {
+                            nearCache.put(actualKey, new NearCacheEntry(type, value));
+                            if (nearCacheEpoch.get() != epoch) {
+                                // An invalidation started meanwhile and may have missed this entry
+                                nearCache.invalidate(actualKey);
+                            }
+                        }
+                    }
+                });
+            }
+        });
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
@@ -526,6 +663,17 @@ private Uni<Void> abort(RedisConnection connection) {
                 .replaceWithVoid();
     }
 
+    private static final class NearCacheEntry {
+
+        private final Type type;
+        private final Object value;
+
+        NearCacheEntry(Type type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
     private static class StaticSupplier<V> implements Supplier<V> {
         private final V cached;
 
@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,15 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * If set, the maximum number of entries of the in-process near cache placed in front of Redis.
+     * If not set, no near cache is used.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
+
+    /**
+     * How long an entry is kept in the near cache after it was stored.
+     */
+    public Duration nearCacheExpireAfterWrite = Duration.ofSeconds(10);
 }
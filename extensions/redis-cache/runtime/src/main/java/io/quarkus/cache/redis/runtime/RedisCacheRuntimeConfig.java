@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,23 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * If set, a bounded in-process near cache with the given maximum number of entries is placed in front of Redis.
+     * Values read from or written to Redis by this application instance are then served without a round trip to Redis.
+     * Entries are removed from the near cache when they are invalidated through this application instance. However,
+     * changes made by other application instances only become visible once the entry expires from the near cache, see
+     * {@link #nearCacheExpireAfterWrite()}.
+     * The near cache is not used when {@link #expireAfterAccess()} is set, because reading an entry from the near cache
+     * would not extend its expiration in Redis.
+     * If not set (default), no near cache is used.
+     */
+    OptionalLong nearCacheMaximumSize();
+
+    /**
+     * Specifies how long an entry is kept in the near cache after it was stored. This is the maximum time during which
+     * a change made by another application instance may not be visible. It never exceeds {@link #expireAfterWrite()}.
+     * Default is 10 seconds.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
 }
@@ -2,6 +2,7 @@
 
 import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -35,6 +36,7 @@
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -1001,6 +1003,17 @@ default ReactiveTimeSeriesCommands<String> timeseries() {
      */
     Uni<Response> execute(io.vertx.redis.client.Command command, String... args);
 
+    /**
+     * Executes a batch of commands.
+     * The commands are pipelined: they are written to a single connection at once, without waiting for the response of
+     * the previous command. Unlike a transaction, the commands are not executed atomically, and other clients may
+     * execute commands in between.
+     *
+     * @param requests the commands, must not be {@code null} or empty
+     * @return the responses, in the order of the commands
+     */
+    Uni<List<Response>> executeBatch(List<Request> requests);
+
     /**
      * @return the underlying Redis client.
      */
@@ -6,6 +6,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -444,6 +445,12 @@ public Response execute(io.vertx.redis.client.Command command, String... args) {
                 .await().atMost(timeout);
     }
 
+    @Override
+    public List<Response> executeBatch(List<Request> requests) {
+        return reactive.executeBatch(requests)
+                .await().atMost(timeout);
+    }
+
     @Override
     public ReactiveRedisDataSource getReactive() {
         return reactive;
@@ -248,6 +248,19 @@ public Uni<Response> execute(io.vertx.redis.client.Command command, String... ar
         return execute(request);
     }
 
+    @Override
+    public Uni<List<Response>> executeBatch(List<Request> requests) {
+        nonNull(requests, "requests");
+        doesNotContainNull(requests, "requests");
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("`requests` must not be empty");
+        }
+        if (connection != null) {
+            return connection.batch(requests);
+        }
+        return redis.batch(requests);
+    }
+
     @Override
     public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> function) {
         if (connection != null) {
@@ -1,6 +1,7 @@
 package io.quarkus.redis.datasource;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
@@ -53,6 +54,16 @@ void testWithBareCommand() {
         Assertions.assertThat(ds.hash(String.class, String.class, String.class).hget(key, "field")).isEqualTo("hello-bare");
     }
 
+    @Test
+    void testBatch() {
+        List<Response> responses = ds.executeBatch(List.of(
+                Request.cmd(Command.HSET).arg(key).arg("field").arg("hello"),
+                Request.cmd(Command.HGET).arg(key).arg("field")));
+        Assertions.assertThat(responses).hasSize(2);
+        Assertions.assertThat(responses.get(0).toInteger()).isEqualTo(1);
+        Assertions.assertThat(responses.get(1).toString()).isEqualTo("hello");
+    }
+
     @Test
     void testCommandInTransaction() {
         TransactionResult result = ds.withTransaction(tx -> tx.execute(Command.HSET, key, "a", "b"));
@@ -0,0 +1,117 @@
+package io.quarkus.rest.client.reactive.jackson.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class ReflectionFreeSerializersClientTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest TEST = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class, Greeting.class, Shape.class))
+            .overrideConfigKey("quarkus.rest.jackson.optimization.enable-reflection-free-serializers", "true")
+            .overrideConfigKey("quarkus.rest-client.greeting-client.url", "http://localhost:${quarkus.http.test-port:8081}");
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldUseGeneratedSerializersForClientPayloads() {
+        Greeting greeting = new Greeting();
+        greeting.setMessage("hello");
+
+        assertEquals("hello", client.echo(greeting).getMessage());
+        assertTrue(Greeting.GENERATED_SERIALIZER_USED.get());
+        assertTrue(Greeting.GENERATED_DESERIALIZER_USED.get());
+    }
+
+    @Test
+    void shouldSkipAbstractClientPayloads() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(Shape.class.getName() + "$quarkusjacksondeserializer"));
+    }
+
+    @Path("/greetings")
+    @RegisterRestClient(configKey = "greeting-client")
+    public interface Client {
+
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        Greeting echo(Greeting greeting);
+
+        @GET
+        @Path("/shape")
+        @Produces(MediaType.APPLICATION_JSON)
+        Shape shape();
+    }
+
+    @Path("/greetings")
+    public static class Resource {
+
+        // the body is echoed as is, so that only the client (de)serializes the payload type
+        @POST
+        @Consumes(MediaType.APPLICATION_JSON)
+        @Produces(MediaType.APPLICATION_JSON)
+        public String echo(String greeting) {
+            return greeting;
+        }
+    }
+
+    public static class Greeting {
+
+        static final AtomicBoolean GENERATED_SERIALIZER_USED = new AtomicBoolean();
+        static final AtomicBoolean GENERATED_DESERIALIZER_USED = new AtomicBoolean();
+
+        private String message;
+
+        public String getMessage() {
+            if (calledFrom("$quarkusjacksonserializer")) {
+                GENERATED_SERIALIZER_USED.set(true);
+            }
+            return message;
+        }
+
+        public void setMessage(String message) {
+            if (calledFrom("$quarkusjacksondeserializer")) {
+                GENERATED_DESERIALIZER_USED.set(true);
+            }
+            this.message = message;
+        }
+
+        static boolean calledFrom(String generatedClassSuffix) {
+            return StackWalker.getInstance()
+                    .walk(frames -> frames.anyMatch(f -> f.getClassName().endsWith(generatedClassSuffix)));
+        }
+    }
+
+    public static abstract class Shape {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.CookieParam;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class ResponseCacheFilterTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar.addClasses(Client.class, Resource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void testFreshResponseIsServedFromCache() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("fresh", client.fresh());
+        assertEquals("fresh", client.fresh());
+        assertEquals("fresh", client.fresh());
+
+        assertEquals(1, Resource.FRESH_CALLS.get());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testStaleResponseIsRevalidated() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("validated", client.validated());
+        assertEquals("validated", client.validated());
+        assertEquals("validated", client.validated());
+
+        assertEquals(3, Resource.VALIDATED_CALLS.get());
+        assertEquals(2, Resource.NOT_MODIFIED_RESPONSES.get());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getRevalidationCount());
+    }
+
+    @Test
+    public void testNoStoreResponseIsNotCached() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("no-store", client.noStore());
+        assertEquals("no-store", client.noStore());
+
+        assertEquals(2, Resource.NO_STORE_CALLS.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testUnsafeMethodInvalidatesCachedResponse() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("v0", client.updatable());
+        assertEquals("v0", client.updatable());
+        client.update("v1");
+        assertEquals("v1", client.updatable());
+        assertEquals("v1", client.updatable());
+
+        assertEquals(2, Resource.UPDATABLE_CALLS.get());
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    public void testExpiresIsUsedWithoutMaxAge() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("expires", client.expires());
+        assertEquals("expires", client.expires());
+
+        assertEquals(1, Resource.EXPIRES_CALLS.get());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testPastExpiresIsNotServedFromCache() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("expired", client.expired());
+        assertEquals("expired", client.expired());
+
+        assertEquals(2, Resource.EXPIRED_CALLS.get());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testRequestIdentifyingUserIsNotCached() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+
+        assertEquals("personal", client.personalWithCookie("alice"));
+        assertEquals("personal", client.personalWithCookie("bob"));
+        assertEquals("personal", client.personalWithProxyAuthorization("Basic YWxpY2U6YWxpY2U="));
+        assertEquals("personal", client.personalWithProxyAuthorization("Basic Ym9iOmJvYg=="));
+
+        assertEquals(4, Resource.PERSONAL_CALLS.get());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPrivateResponseIsNotCachedByDefault() {
+        ResponseCacheFilter cache = new ResponseCacheFilter();
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+        int calls = Resource.PRIVATE_CALLS.get();
+
+        assertEquals("private", client.privateResponse());
+        assertEquals("private", client.privateResponse());
+
+        assertEquals(calls + 2, Resource.PRIVATE_CALLS.get());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPrivateResponseIsCachedByPrivateCache() {
+        ResponseCacheFilter cache = new ResponseCacheFilter(ResponseCacheFilter.DEFAULT_MAX_ENTRIES, true);
+        Client client = RestClientBuilder.newBuilder().baseUri(uri).register(cache).build(Client.class);
+        int calls = Resource.PRIVATE_CALLS.get();
+
+        assertEquals("private", client.privateResponse());
+        assertEquals("private", client.privateResponse());
+
+        assertEquals(calls + 1, Resource.PRIVATE_CALLS.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Path("/cache")
+    public interface Client {
+
+        @GET
+        @Path("/fresh")
+        String fresh();
+
+        @GET
+        @Path("/validated")
+        String validated();
+
+        @GET
+        @Path("/no-store")
+        String noStore();
+
+        @GET
+        @Path("/updatable")
+        String updatable();
+
+        @POST
+        @Path("/updatable")
+        void update(String value);
+
+        @GET
+        @Path("/expires")
+        String expires();
+
+        @GET
+        @Path("/expired")
+        String expired();
+
+        @GET
+        @Path("/personal")
+        String personalWithCookie(@CookieParam("session") String session);
+
+        @GET
+        @Path("/personal")
+        String personalWithProxyAuthorization(@HeaderParam("Proxy-Authorization") String proxyAuthorization);
+
+        @GET
+        @Path("/private")
+        String privateResponse();
+    }
+
+    @Path("/cache")
+    public static class Resource {
+
+        static final AtomicInteger FRESH_CALLS = new AtomicInteger();
+        static final AtomicInteger VALIDATED_CALLS = new AtomicInteger();
+        static final AtomicInteger NOT_MODIFIED_RESPONSES = new AtomicInteger();
+        static final AtomicInteger NO_STORE_CALLS = new AtomicInteger();
+        static final AtomicInteger UPDATABLE_CALLS = new AtomicInteger();
+        static final AtomicInteger EXPIRES_CALLS = new AtomicInteger();
+        static final AtomicInteger EXPIRED_CALLS = new AtomicInteger();
+        static final AtomicInteger PERSONAL_CALLS = new AtomicInteger();
+        static final AtomicInteger PRIVATE_CALLS = new AtomicInteger();
+
+        static volatile String updatable = "v0";
+
+        @GET
+        @Path("/fresh")
+        public Response fresh() {
+            FRESH_CALLS.incrementAndGet();
+            return Response.ok("fresh").header(HttpHeaders.CACHE_CONTROL, "max-age=60").build();
+        }
+
+        @GET
+        @Path("/validated")
+        public Response validated(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+            VALIDATED_CALLS.incrementAndGet();
+            if ("\"v1\"".equals(ifNoneMatch)) {
+                NOT_MODIFIED_RESPONSES.incrementAndGet();
+                return Response.notModified().header(HttpHeaders.ETAG, "\"v1\"").build();
+            }
+            return Response.ok("validated").header(HttpHeaders.ETAG, "\"v1\"")
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache").build();
+        }
+
+        @GET
+        @Path("/no-store")
+        public Response noStore() {
+            NO_STORE_CALLS.incrementAndGet();
+            return Response.ok("no-store").header(HttpHeaders.CACHE_CONTROL, "no-store").build();
+        }
+
+        @GET
+        @Path("/updatable")
+        public Response updatable() {
+            UPDATABLE_CALLS.incrementAndGet();
+            return Response.ok(updatable).header(HttpHeaders.CACHE_CONTROL, "max-age=60").build();
+        }
+
+        @POST
+        @Path("/updatable")
+        public void update(String value) {
+            updatable = value;
+        }
+
+        @GET
+        @Path("/expires")
+        public Response expires() {
+            EXPIRES_CALLS.incrementAndGet();
+            return Response.ok("expires").header(HttpHeaders.EXPIRES, httpDate(60)).build();
+        }
+
+        @GET
+        @Path("/expired")
+        public Response expired() {
+            EXPIRED_CALLS.incrementAndGet();
+            return Response.ok("expired").header(HttpHeaders.EXPIRES, httpDate(-60)).build();
+        }
+
+        @GET
+        @Path("/personal")
+        public Response personal() {
+            PERSONAL_CALLS.incrementAndGet();
+            return Response.ok("personal").header(HttpHeaders.CACHE_CONTROL, "max-age=60").build();
+        }
+
+        @GET
+        @Path("/private")
+        public Response privateResponse() {
+            PRIVATE_CALLS.incrementAndGet();
+            return Response.ok("private").header(HttpHeaders.CACHE_CONTROL, "private, max-age=60").build();
+        }
+
+        private static String httpDate(long secondsFromNow) {
+            return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(secondsFromNow));
+        }
+    }
+}
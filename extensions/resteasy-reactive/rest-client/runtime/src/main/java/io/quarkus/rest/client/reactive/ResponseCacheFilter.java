@@ -0,0 +1,482 @@
+package io.quarkus.rest.client.reactive;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * An HTTP cache for the {@code GET} requests of a REST Client, following the rules of
+ * <a href="https://www.rfc-editor.org/rfc/rfc9111">RFC 9111</a>.
+ * <p>
+ * The cache is enabled by registering this class as a provider of a REST Client, for example with
+ * {@code @RegisterProvider(ResponseCacheFilter.class)}, in which case each client has its own cache holding up to
+ * {@link #DEFAULT_MAX_ENTRIES} responses. An instance created with {@link #ResponseCacheFilter(int)} can be registered
+ * with the client builder to use a different bound.
+ * <p>
+ * As a REST Client is usually shared by all the users of an application, the cache behaves as a shared cache by
+ * default: responses with {@code Cache-Control: private} are not stored. An instance created with
+ * {@link #ResponseCacheFilter(int, boolean)} can store them when the client is only used on behalf of a single user.
+ * Responses to requests with a {@code Cookie} or {@code Proxy-Authorization} header are never stored, as they may be
+ * specific to the user these headers identify. Requests with an {@code Authorization} header only share the responses
+ * stored for the same header value.
+ * <p>
+ * A {@code 200} response is stored if it is fresh according to its {@code Cache-Control: max-age} directive or, in the
+ * absence of {@code max-age}, its {@code Expires} header, or if it carries an {@code ETag} or a {@code Last-Modified}
+ * validator. Fresh responses are returned without contacting the server. Stale responses are revalidated with a
+ * conditional request, and returned from the cache if the server answers {@code 304 Not Modified}. Responses with
+ * {@code Cache-Control: no-store} are never stored, and requests with {@code Cache-Control: no-cache} are always
+ * revalidated. Streamed responses ({@code text/event-stream} and the JSON streaming media types) and bodies larger than
+ * {@link #MAX_BODY_SIZE} bytes are not stored.
+ * <p>
+ * A successful ({@code 2xx} or {@code 3xx}) response to a request with an unsafe method, such as {@code POST},
+ * {@code PUT}, {@code PATCH} or {@code DELETE}, evicts the responses stored for the request URI and for the URIs of its
+ * {@code Location} and {@code Content-Location} headers, as required by RFC 9111 section 4.4.
+ */
+@Priority(Integer.MAX_VALUE - 10)
+public class ResponseCacheFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final int MAX_BODY_SIZE = 1024 * 1024;
+
+    private static final String KEY_PROPERTY = ResponseCacheFilter.class.getName() + ".key";
+    private static final String REVALIDATED_ENTRY_PROPERTY = ResponseCacheFilter.class.getName() + ".revalidated";
+    private static final String HIT_PROPERTY = ResponseCacheFilter.class.getName() + ".hit";
+    private static final String INVALIDATE_PROPERTY = ResponseCacheFilter.class.getName() + ".invalidate";
+    private static final String PROXY_AUTHORIZATION = "Proxy-Authorization";
+
+    private final Map<String, CacheEntry> entries;
+    private final boolean privateCache;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder revalidationCount = new LongAdder();
+
+    public ResponseCacheFilter() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the maximum number of responses kept in the cache, the least recently used ones are evicted first
+     */
+    public ResponseCacheFilter(int maxEntries) {
+        this(maxEntries, false);
+    }
+
+    /**
+     * @param maxEntries the maximum number of responses kept in the cache, the least recently used ones are evicted first
+     * @param privateCache whether responses with {@code Cache-Control: private} can be stored, this must only be enabled
+     *        if the client is not shared by several users
+     */
+    public ResponseCacheFilter(int maxEntries, boolean privateCache) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        this.entries = Collections.synchronizedMap(new BoundedMap(maxEntries));
+        this.privateCache = privateCache;
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+        String method = requestContext.getMethod();
+        if (!HttpMethod.GET.equals(method)) {
+            if (!isSafe(method)) {
+                requestContext.setProperty(INVALIDATE_PROPERTY, Boolean.TRUE);
+            }
+            return;
+        }
+        String cacheControl = requestContext.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        if (hasDirective(cacheControl, "no-store") || identifiesUser(requestContext)) {
+            return;
+        }
+        String key = key(requestContext);
+        requestContext.setProperty(KEY_PROPERTY, key);
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (entry.isFresh(System.currentTimeMillis()) && !hasDirective(cacheControl, "no-cache")) {
+            hitCount.increment();
+            requestContext.setProperty(HIT_PROPERTY, Boolean.TRUE);
+            requestContext.abortWith(entry.toResponse());
+            return;
+        }
+        if (entry.etag == null && entry.lastModified == null) {
+            entries.remove(key);
+            return;
+        }
+        requestContext.setProperty(REVALIDATED_ENTRY_PROPERTY, entry);
+        if (entry.etag != null) {
+            requestContext.getHeaders().putSingle(HttpHeaders.IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            requestContext.getHeaders().putSingle(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified);
+        }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+        if (requestContext.getProperty(INVALIDATE_PROPERTY) != null) {
+            invalidate(requestContext.getUri(), responseContext);
+            return;
+        }
+        String key = (String) requestContext.getProperty(KEY_PROPERTY);
+        if (key == null || requestContext.getProperty(HIT_PROPERTY) != null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        CacheEntry revalidated = (CacheEntry) requestContext.getProperty(REVALIDATED_ENTRY_PROPERTY);
+        if (revalidated != null && responseContext.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            revalidationCount.increment();
+            CacheEntry refreshed = revalidated.refresh(responseContext.getHeaders(), now);
+            entries.put(key, refreshed);
+            responseContext.setStatusInfo(Response.Status.OK);
+            MultivaluedMap<String, String> headers = responseContext.getHeaders();
+            for (Map.Entry<String, List<String>> header : refreshed.headers.entrySet()) {
+                if (!headers.containsKey(header.getKey())) {
+                    headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+            responseContext.setEntityStream(new ByteArrayInputStream(refreshed.body));
+            return;
+        }
+        missCount.increment();
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode()) {
+            return;
+        }
+        String cacheControl = responseContext.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        String etag = responseContext.getHeaderString(HttpHeaders.ETAG);
+        String lastModified = responseContext.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        long freshness = freshnessLifetime(cacheControl, responseContext.getHeaderString(HttpHeaders.EXPIRES),
+                responseContext.getHeaderString(HttpHeaders.DATE), now);
+        if (hasDirective(cacheControl, "no-store")
+                || (!privateCache && hasDirective(cacheControl, "private"))
+                || !isCacheableVary(responseContext.getHeaderString(HttpHeaders.VARY))
+                || isStreamed(responseContext.getMediaType())
+                || (freshness <= 0 && etag == null && lastModified == null)) {
+            entries.remove(key);
+            return;
+        }
+        InputStream entityStream = responseContext.getEntityStream();
+        if (entityStream == null || responseContext.getLength() > MAX_BODY_SIZE) {
+            entries.remove(key);
+            return;
+        }
+        // the length may be unknown, so never buffer more than the limit
+        byte[] body = entityStream.readNBytes(MAX_BODY_SIZE + 1);
+        if (body.length > MAX_BODY_SIZE) {
+            responseContext.setEntityStream(new SequenceInputStream(new ByteArrayInputStream(body), entityStream));
+            entries.remove(key);
+            return;
+        }
+        responseContext.setEntityStream(new ByteArrayInputStream(body));
+        entries.put(key, new CacheEntry(copyHeaders(responseContext.getHeaders()), body, now + freshness, etag,
+                lastModified));
+    }
+
+    /**
+     * @return number of requests answered from the cache without contacting the server
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of requests answered by the server with a new response
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return number of requests for which the server confirmed that the cached response is still valid
+     */
+    public long getRevalidationCount() {
+        return revalidationCount.sum();
+    }
+
+    /**
+     * @return number of responses currently stored
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void invalidate(URI requestUri, ClientResponseContext responseContext) {
+        int status = responseContext.getStatus();
+        if (status < 200 || status >= 400) {
+            return;
+        }
+        evict(requestUri);
+        // RFC 9111 section 4.4: only the URIs of the same origin as the request URI are invalidated
+        for (String header : List.of(HttpHeaders.LOCATION, HttpHeaders.CONTENT_LOCATION)) {
+            String location = responseContext.getHeaderString(header);
+            if (location == null) {
+                continue;
+            }
+            URI locationUri;
+            try {
+                locationUri = requestUri.resolve(location.trim());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (sameOrigin(requestUri, locationUri)) {
+                evict(locationUri);
+            }
+        }
+    }
+
+    private void evict(URI uri) {
+        String prefix = uri.toString() + '\n';
+        synchronized (entries) {
+            Iterator<String> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    private static boolean sameOrigin(URI first, URI second) {
+        return first.getScheme() != null && first.getScheme().equalsIgnoreCase(second.getScheme())
+                && first.getHost() != null && first.getHost().equalsIgnoreCase(second.getHost())
+                && first.getPort() == second.getPort();
+    }
+
+    private static boolean isSafe(String method) {
+        return HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method) || "TRACE".equals(method);
+    }
+
+    private static boolean isStreamed(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String subtype = mediaType.getSubtype().toLowerCase(Locale.ROOT);
+        return MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(mediaType)
+                || subtype.equals("x-ndjson") || subtype.equals("stream+json") || subtype.equals("jsonl");
+    }
+
+    /**
+     * @return whether the request carries a header identifying the user which the key does not cover
+     */
+    private static boolean identifiesUser(ClientRequestContext requestContext) {
+        return requestContext.getHeaderString(HttpHeaders.COOKIE) != null
+                || requestContext.getHeaderString(PROXY_AUTHORIZATION) != null;
+    }
+
+    private static String key(ClientRequestContext requestContext) {
+        // the key covers the request headers the response may vary on, see isCacheableVary
+        // it starts with the URI followed by a new line, see evict
+        return requestContext.getUri().toString()
+                + '\n' + nullToEmpty(requestContext.getHeaderString(HttpHeaders.ACCEPT))
+                + '\n' + nullToEmpty(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING))
+                + '\n' + nullToEmpty(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION));
+    }
+
+    private static boolean isCacheableVary(String vary) {
+        if (vary == null) {
+            return true;
+        }
+        for (String header : vary.split(",")) {
+            String name = header.trim();
+            if (!name.isEmpty() && !name.equalsIgnoreCase(HttpHeaders.ACCEPT)
+                    && !name.equalsIgnoreCase(HttpHeaders.ACCEPT_ENCODING)
+                    && !name.equalsIgnoreCase(HttpHeaders.AUTHORIZATION)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String value : cacheControl.split(",")) {
+            String name = value.trim();
+            int eq = name.indexOf('=');
+            if (eq >= 0) {
+                name = name.substring(0, eq).trim();
+            }
+            if (name.equalsIgnoreCase(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the value of the {@code max-age} directive in seconds, or {@code -1} if absent or invalid
+     */
+    static long maxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return -1;
+        }
+        for (String value : cacheControl.split(",")) {
+            String directive = value.trim().toLowerCase(Locale.ROOT);
+            if (directive.startsWith("max-age=")) {
+                String seconds = directive.substring("max-age=".length()).trim();
+                if (seconds.length() > 1 && seconds.startsWith("\"") && seconds.endsWith("\"")) {
+                    seconds = seconds.substring(1, seconds.length() - 1);
+                }
+                try {
+                    return Long.parseLong(seconds);
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return how long a response stays fresh in milliseconds, from the {@code max-age} directive or else from the
+     *         {@code Expires} header, {@code 0} if it must be revalidated
+     */
+    static long freshnessLifetime(String cacheControl, String expires, String date, long now) {
+        if (hasDirective(cacheControl, "no-cache")) {
+            return 0;
+        }
+        long maxAge = maxAge(cacheControl);
+        if (maxAge >= 0) {
+            return maxAge * 1000;
+        }
+        if (expires == null) {
+            return 0;
+        }
+        // an invalid Expires value, such as 0, means already expired
+        long expiresAt = parseHttpDate(expires);
+        if (expiresAt < 0) {
+            return 0;
+        }
+        long dateValue = date == null ? -1 : parseHttpDate(date);
+        return Math.max(expiresAt - (dateValue < 0 ? now : dateValue), 0);
+    }
+
+    private static long parseHttpDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static Map<String, List<String>> copyHeaders(MultivaluedMap<String, String> headers) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            copy.put(header.getKey(), List.copyOf(header.getValue()));
+        }
+        return copy;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static final class CacheEntry {
+        final Map<String, List<String>> headers;
+        final byte[] body;
+        final long expiresAt;
+        final String etag;
+        final String lastModified;
+
+        CacheEntry(Map<String, List<String>> headers, byte[] body, long expiresAt, String etag, String lastModified) {
+            this.headers = headers;
+            this.body = body;
+            this.expiresAt = expiresAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+
+        /**
+         * @return the entry updated with the headers of a {@code 304 Not Modified} response
+         */
+        CacheEntry refresh(MultivaluedMap<String, String> notModifiedHeaders, long now) {
+            Map<String, List<String>> updatedHeaders = new LinkedHashMap<>(headers);
+            for (Map.Entry<String, List<String>> header : notModifiedHeaders.entrySet()) {
+                updatedHeaders.put(header.getKey(), List.copyOf(header.getValue()));
+            }
+            String cacheControl = notModifiedHeaders.getFirst(HttpHeaders.CACHE_CONTROL);
+            if (cacheControl == null) {
+                cacheControl = first(headers.get(HttpHeaders.CACHE_CONTROL));
+            }
+            String expires = notModifiedHeaders.getFirst(HttpHeaders.EXPIRES);
+            String date = notModifiedHeaders.getFirst(HttpHeaders.DATE);
+            if (expires == null) {
+                expires = first(headers.get(HttpHeaders.EXPIRES));
+                date = first(headers.get(HttpHeaders.DATE));
+            }
+            long freshness = freshnessLifetime(cacheControl, expires, date, now);
+            String newEtag = notModifiedHeaders.getFirst(HttpHeaders.ETAG);
+            String newLastModified = notModifiedHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+            return new CacheEntry(updatedHeaders, body, now + freshness,
+                    newEtag != null ? newEtag : etag, newLastModified != null ? newLastModified : lastModified);
+        }
+
+        Response toResponse() {
+            Response.ResponseBuilder builder = Response.ok();
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                if (header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_TYPE)) {
+                    builder.type(first(header.getValue()));
+                } else {
+                    for (String value : header.getValue()) {
+                        builder.header(header.getKey(), value);
+                    }
+                }
+            }
+            return builder.entity(body).build();
+        }
+
+        private static String first(List<String> values) {
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+    }
+
+    private static final class BoundedMap extends LinkedHashMap<String, CacheEntry> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        BoundedMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -16,6 +16,11 @@ public interface JacksonOptimizationConfig {
 
     /**
      * Enable build time generation of reflection-free Jackson serializers.
+     * <p>
+     * Serializers are generated for the payload types of the REST endpoints, and also for the payload types of
+     * the REST client interfaces, the Kafka {@code ObjectMapperSerializer} and {@code ObjectMapperDeserializer}
+     * subclasses and the WebSockets Next {@code @OnTextMessage} methods, since they all use the same
+     * {@code ObjectMapper}.
      */
     @WithDefault("true")
     boolean enableReflectionFreeSerializers();
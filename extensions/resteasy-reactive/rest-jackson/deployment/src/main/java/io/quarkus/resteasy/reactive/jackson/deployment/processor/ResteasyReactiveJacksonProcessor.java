@@ -112,6 +112,15 @@ public class ResteasyReactiveJacksonProcessor {
     private static final DotName ENABLE_SECURE_SERIALIZATION = DotName
             .createSimple(EnableSecureSerialization.class.getName());
 
+    // Other extensions serializing with the same ObjectMapper, referenced by name as they are optional
+    private static final DotName REGISTER_REST_CLIENT = DotName
+            .createSimple("org.eclipse.microprofile.rest.client.inject.RegisterRestClient");
+    private static final DotName KAFKA_OBJECT_MAPPER_SERIALIZER = DotName
+            .createSimple("io.quarkus.kafka.client.serialization.ObjectMapperSerializer");
+    private static final DotName KAFKA_OBJECT_MAPPER_DESERIALIZER = DotName
+            .createSimple("io.quarkus.kafka.client.serialization.ObjectMapperDeserializer");
+    private static final DotName ON_TEXT_MESSAGE = DotName.createSimple("io.quarkus.websockets.next.OnTextMessage");
+
     private static final String[] EMPTY_STRING_ARRAY = new String[0];
     private static final List<String> HANDLED_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, APPLICATION_NDJSON,
             APPLICATION_STREAM_JSON);
@@ -424,6 +433,13 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             }
         }
 
+        // REST clients, Kafka serdes and WebSockets Next endpoints use the same ObjectMapper,
+        // so their payload types can benefit from the generated serializers as well
+        IndexView combinedIndex = index.getIndex();
+        collectRestClientTypes(combinedIndex, serializedClasses, deserializedClasses);
+        collectKafkaSerdeTypes(combinedIndex, serializedClasses, deserializedClasses);
+        collectWebSocketMessageTypes(combinedIndex, serializedClasses, deserializedClasses);
+
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
@@ -439,6 +455,65 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
         }
     }
 
+    private static void collectRestClientTypes(IndexView indexView, Map<String, ClassInfo> serializedClasses,
+            Map<String, ClassInfo> deserializedClasses) {
+        for (AnnotationInstance registerRestClient : indexView.getAnnotations(REGISTER_REST_CLIENT)) {
+            if (registerRestClient.target().kind() != AnnotationTarget.Kind.CLASS) {
+                continue;
+            }
+            for (MethodInfo methodInfo : registerRestClient.target().asClass().methods()) {
+                // a REST client reads the responses and writes the request bodies
+                addEffectiveClassInfo(methodInfo.returnType(), indexView, deserializedClasses);
+                if (methodInfo.hasAnnotation(POST.class) || methodInfo.hasAnnotation(PUT.class)
+                        || methodInfo.hasAnnotation(PATCH.class)) {
+                    for (Type paramType : methodInfo.parameterTypes()) {
+                        addEffectiveClassInfo(paramType, indexView, serializedClasses);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void collectKafkaSerdeTypes(IndexView indexView, Map<String, ClassInfo> serializedClasses,
+            Map<String, ClassInfo> deserializedClasses) {
+        for (ClassInfo serializer : indexView.getAllKnownSubclasses(KAFKA_OBJECT_MAPPER_SERIALIZER)) {
+            addSerdeTargetClassInfo(serializer, KAFKA_OBJECT_MAPPER_SERIALIZER, indexView, serializedClasses);
+        }
+        for (ClassInfo deserializer : indexView.getAllKnownSubclasses(KAFKA_OBJECT_MAPPER_DESERIALIZER)) {
+            addSerdeTargetClassInfo(deserializer, KAFKA_OBJECT_MAPPER_DESERIALIZER, indexView, deserializedClasses);
+        }
+    }
+
+    private static void addSerdeTargetClassInfo(ClassInfo serde, DotName serdeBaseClass, IndexView indexView,
+            Map<String, ClassInfo> classes) {
+        Type superClassType = serde.superClassType();
+        if (superClassType != null && superClassType.name().equals(serdeBaseClass)
+                && superClassType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            addEffectiveClassInfo(superClassType.asParameterizedType().arguments().get(0), indexView, classes);
+        }
+    }
+
+    private static void collectWebSocketMessageTypes(IndexView indexView, Map<String, ClassInfo> serializedClasses,
+            Map<String, ClassInfo> deserializedClasses) {
+        for (AnnotationInstance onTextMessage : indexView.getAnnotations(ON_TEXT_MESSAGE)) {
+            if (onTextMessage.target().kind() != AnnotationTarget.Kind.METHOD) {
+                continue;
+            }
+            MethodInfo methodInfo = onTextMessage.target().asMethod();
+            addEffectiveClassInfo(methodInfo.returnType(), indexView, serializedClasses);
+            for (Type paramType : methodInfo.parameterTypes()) {
+                addEffectiveClassInfo(paramType, indexView, deserializedClasses);
+            }
+        }
+    }
+
+    private static void addEffectiveClassInfo(Type type, IndexView indexView, Map<String, ClassInfo> classes) {
+        ClassInfo effectiveClassInfo = getEffectiveClassInfo(type, indexView);
+        if (effectiveClassInfo != null && !effectiveClassInfo.isEnum()) {
+            classes.put(effectiveClassInfo.name().toString(), effectiveClassInfo);
+        }
+    }
+
     @BuildStep(onlyIf = JacksonOptimizationConfig.IsReflectionFreeSerializersEnabled.class)
     void unremovable(BuildProducer<AdditionalBeanBuildItem> additionalProducer) {
         additionalProducer.produce(AdditionalBeanBuildItem.unremovableOf(GeneratedSerializersRegister.class));
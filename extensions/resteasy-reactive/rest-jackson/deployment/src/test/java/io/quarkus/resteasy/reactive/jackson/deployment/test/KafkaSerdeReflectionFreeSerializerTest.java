@@ -0,0 +1,101 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class KafkaSerdeReflectionFreeSerializerTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Event.class, EventSerializer.class, EventDeserializer.class, Envelope.class,
+                            EnvelopeDeserializer.class)
+                    .addAsResource(
+                            new StringAsset("quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"
+                                    + "quarkus.kafka.devservices.enabled=false\n"),
+                            "application.properties"));
+
+    @Test
+    public void testSerdeTargetTypesUseGeneratedSerializers() {
+        try (EventSerializer serializer = new EventSerializer();
+                EventDeserializer deserializer = new EventDeserializer()) {
+            Event event = new Event();
+            event.setName("created");
+
+            byte[] bytes = serializer.serialize("events", event);
+            assertEquals("{\"name\":\"created\"}", new String(bytes, StandardCharsets.UTF_8));
+            assertEquals("created", deserializer.deserialize("events", bytes).getName());
+        }
+
+        assertTrue(Event.GENERATED_SERIALIZER_USED.get());
+        assertTrue(Event.GENERATED_DESERIALIZER_USED.get());
+    }
+
+    @Test
+    public void testInterfaceTargetTypeIsSkipped() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(Envelope.class.getName() + "$quarkusjacksondeserializer"));
+    }
+
+    public static class EventSerializer extends ObjectMapperSerializer<Event> {
+    }
+
+    public static class EventDeserializer extends ObjectMapperDeserializer<Event> {
+
+        public EventDeserializer() {
+            super(Event.class);
+        }
+    }
+
+    public static class EnvelopeDeserializer extends ObjectMapperDeserializer<Envelope> {
+
+        public EnvelopeDeserializer() {
+            super(Envelope.class);
+        }
+    }
+
+    public static class Event {
+
+        static final AtomicBoolean GENERATED_SERIALIZER_USED = new AtomicBoolean();
+        static final AtomicBoolean GENERATED_DESERIALIZER_USED = new AtomicBoolean();
+
+        private String name;
+
+        public String getName() {
+            if (calledFrom("$quarkusjacksonserializer")) {
+                GENERATED_SERIALIZER_USED.set(true);
+            }
+            return name;
+        }
+
+        public void setName(String name) {
+            if (calledFrom("$quarkusjacksondeserializer")) {
+                GENERATED_DESERIALIZER_USED.set(true);
+            }
+            this.name = name;
+        }
+
+        static boolean calledFrom(String generatedClassSuffix) {
+            return StackWalker.getInstance()
+                    .walk(frames -> frames.anyMatch(f -> f.getClassName().endsWith(generatedClassSuffix)));
+        }
+    }
+
+    public interface Envelope {
+
+        String getPayload();
+    }
+}
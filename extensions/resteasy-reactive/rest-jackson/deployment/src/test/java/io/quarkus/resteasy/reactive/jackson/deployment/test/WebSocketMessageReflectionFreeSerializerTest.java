@@ -0,0 +1,119 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.BasicWebSocketConnector;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketClientConnection;
+
+public class WebSocketMessageReflectionFreeSerializerTest {
+
+    @RegisterExtension
+    static QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Echo.class, Shapes.class, Message.class, Shape.class)
+                    .addAsResource(
+                            new StringAsset("quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"),
+                            "application.properties"));
+
+    @TestHTTPResource("echo")
+    URI echoUri;
+
+    @Test
+    public void testMessageTypesUseGeneratedSerializers() throws Exception {
+        CompletableFuture<String> reply = new CompletableFuture<>();
+        WebSocketClientConnection connection = BasicWebSocketConnector
+                .create()
+                .baseUri(echoUri)
+                .onTextMessage((c, m) -> reply.complete(m))
+                .connectAndAwait();
+        try {
+            connection.sendTextAndAwait("{\"text\":\"hello\"}");
+            assertThat(reply.get(5, TimeUnit.SECONDS)).contains("\"text\":\"hello\"");
+        } finally {
+            connection.closeAndAwait();
+        }
+
+        assertTrue(Message.GENERATED_DESERIALIZER_USED.get());
+        assertTrue(Message.GENERATED_SERIALIZER_USED.get());
+    }
+
+    @Test
+    public void testAbstractMessageTypeIsSkipped() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        assertThrows(ClassNotFoundException.class,
+                () -> classLoader.loadClass(Shape.class.getName() + "$quarkusjacksondeserializer"));
+    }
+
+    @WebSocket(path = "/echo")
+    public static class Echo {
+
+        @OnTextMessage
+        public Message onMessage(Message message) {
+            return message;
+        }
+    }
+
+    @WebSocket(path = "/shapes")
+    public static class Shapes {
+
+        @OnTextMessage
+        public String onMessage(Shape shape) {
+            return shape.getClass().getSimpleName();
+        }
+    }
+
+    public static class Message {
+
+        static final AtomicBoolean GENERATED_SERIALIZER_USED = new AtomicBoolean();
+        static final AtomicBoolean GENERATED_DESERIALIZER_USED = new AtomicBoolean();
+
+        private String text;
+
+        public String getText() {
+            if (calledFrom("$quarkusjacksonserializer")) {
+                GENERATED_SERIALIZER_USED.set(true);
+            }
+            return text;
+        }
+
+        public void setText(String text) {
+            if (calledFrom("$quarkusjacksondeserializer")) {
+                GENERATED_DESERIALIZER_USED.set(true);
+            }
+            this.text = text;
+        }
+
+        static boolean calledFrom(String generatedClassSuffix) {
+            return StackWalker.getInstance()
+                    .walk(frames -> frames.anyMatch(f -> f.getClassName().endsWith(generatedClassSuffix)));
+        }
+    }
+
+    public static abstract class Shape {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
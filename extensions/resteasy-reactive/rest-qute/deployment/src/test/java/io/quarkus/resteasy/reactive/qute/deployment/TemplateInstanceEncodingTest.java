@@ -0,0 +1,68 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class TemplateInstanceEncodingTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class)
+                    .addAsResource(new StringAsset("Grüße {name}, {#for i in total}{i}{/for}"), "templates/greeting.txt"));
+
+    @Test
+    public void testUtf8() {
+        byte[] body = when().get("/encoding/utf8").then()
+                .statusCode(200)
+                .contentType(Matchers.containsStringIgnoringCase("charset=UTF-8"))
+                .extract().asByteArray();
+        assertArrayEquals("Grüße Søren, 123".getBytes(StandardCharsets.UTF_8), body);
+    }
+
+    @Test
+    public void testOtherCharset() {
+        byte[] body = when().get("/encoding/latin1").then()
+                .statusCode(200)
+                .contentType(Matchers.containsStringIgnoringCase("charset=ISO-8859-1"))
+                .extract().asByteArray();
+        assertArrayEquals("Grüße Søren, 123".getBytes(StandardCharsets.ISO_8859_1), body);
+    }
+
+    @Path("encoding")
+    public static class TestResource {
+
+        @Inject
+        Template greeting;
+
+        @GET
+        @Path("utf8")
+        @Produces("text/plain;charset=UTF-8")
+        public TemplateInstance utf8() {
+            return greeting.data("name", "Søren").data("total", 3);
+        }
+
+        @GET
+        @Path("latin1")
+        @Produces("text/plain;charset=ISO-8859-1")
+        public TemplateInstance latin1() {
+            return greeting.data("name", "Søren").data("total", 3);
+        }
+    }
+}
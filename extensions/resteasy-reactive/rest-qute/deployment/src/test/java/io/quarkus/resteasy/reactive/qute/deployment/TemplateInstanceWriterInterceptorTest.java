@@ -0,0 +1,63 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusExtensionTest;
+
+public class TemplateInstanceWriterInterceptorTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest config = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, UpperCaseInterceptor.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt"));
+
+    @Test
+    public void testWriterInterceptorReceivesString() {
+        when().get("/interceptor").then()
+                .statusCode(200)
+                .body(Matchers.is("HELLO WORLD!"));
+    }
+
+    @Path("interceptor")
+    public static class TestResource {
+
+        @Inject
+        Template hello;
+
+        @GET
+        @Produces("text/plain;charset=UTF-8")
+        public TemplateInstance get() {
+            return hello.data("name", "world");
+        }
+    }
+
+    @Provider
+    public static class UpperCaseInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            if (context.getEntity() instanceof String) {
+                context.setEntity(((String) context.getEntity()).toUpperCase());
+            }
+            context.proceed();
+        }
+    }
+}
@@ -2,8 +2,12 @@
 
 import static io.quarkus.resteasy.reactive.qute.runtime.Util.*;
 
+import java.nio.charset.StandardCharsets;
+
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.WriterInterceptor;
 
+import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
@@ -35,11 +39,24 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        EncodedMediaType contentType = requestContext.getResponseContentType();
+        if (contentType != null && StandardCharsets.UTF_8.name().equalsIgnoreCase(contentType.getCharset())
+                && !hasWriterInterceptors(requestContext)) {
+            // The content type is already known and the output is UTF-8 encoded
+            // So we can render directly into a buffer and skip the intermediate String
+            // Writer interceptors may expect the String entity returned so far, so they keep it
+            return toBufferUni(result, engine);
+        }
         return toUni(result, engine);
     }
 
+    private static boolean hasWriterInterceptors(ResteasyReactiveRequestContext requestContext) {
+        WriterInterceptor[] writerInterceptors = requestContext.getWriterInterceptors();
+        return writerInterceptors != null && writerInterceptors.length > 0;
+    }
+
 }
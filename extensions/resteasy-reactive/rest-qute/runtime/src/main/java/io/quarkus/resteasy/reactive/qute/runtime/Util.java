@@ -14,6 +14,7 @@
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
@@ -31,6 +32,24 @@ static Uni<String> toUni(TemplateInstance instance, Engine engine) {
         return uni;
     }
 
+    /**
+     * Renders the template chunk by chunk directly into a Vert.x {@link Buffer}, i.e. the UTF-8 bytes are written without
+     * building the complete {@link String} first.
+     */
+    static Uni<Buffer> toBufferUni(TemplateInstance instance, Engine engine) {
+        Uni<Buffer> uni = Uni.createFrom().completionStage(() -> {
+            Buffer buffer = Buffer.buffer();
+            return instance.consume(buffer::appendString).thenApply(ignored -> buffer);
+        });
+        if (!engine.useAsyncTimeout()) {
+            // Make sure the timeout is always used
+            long timeout = instance.getTimeout();
+            uni = uni.ifNoItem().after(Duration.ofMillis(timeout))
+                    .failWith(() -> new TemplateException(instance + " rendering timeout [" + timeout + "ms] occurred"));
+        }
+        return uni;
+    }
+
     @SuppressWarnings("unchecked")
     static MediaType setSelectedVariant(TemplateInstance result,
             Request request, List<Locale> acceptableLanguages) {
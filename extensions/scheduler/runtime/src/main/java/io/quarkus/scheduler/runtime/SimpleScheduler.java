@@ -517,6 +517,8 @@ static class CronTrigger extends SimpleTrigger {
         private final ExecutionTime executionTime;
         private final Duration gracePeriod;
         private final ZoneId timeZone;
+        // The next execution after the last fire time; only accessed by the thread that evaluates the trigger
+        private ZonedDateTime nextExecution;
 
         CronTrigger(String id, ZonedDateTime start, Cron cron, Duration gracePeriod, ZoneId timeZone, String description) {
             super(id, start, description);
@@ -539,12 +541,21 @@ ZonedDateTime evaluate(ZonedDateTime now) {
                 return null;
             }
             now = zoned(now);
+            if (nextExecution == null) {
+                nextExecution = executionTime.nextExecution(lastFireTime).orElse(null);
+            }
+            if (nextExecution != null && now.isBefore(nextExecution)) {
+                // The trigger cannot fire before the next execution
+                // We can skip the relatively expensive computation of the last execution
+                return null;
+            }
             Optional<ZonedDateTime> lastExecution = executionTime.lastExecution(now);
             if (lastExecution.isPresent()) {
                 ZonedDateTime lastTruncated = lastExecution.get().truncatedTo(ChronoUnit.SECONDS);
                 if (now.isAfter(lastTruncated) && lastFireTime.isBefore(lastTruncated)) {
                     LOG.tracef("%s fired, last=%s", this, lastTruncated);
                     lastFireTime = now;
+                    nextExecution = null;
                     return lastTruncated;
                 }
             }
@@ -1,6 +1,5 @@
 package io.quarkus.smallrye.reactivemessaging.kafka;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -69,20 +68,15 @@ public CheckpointStateStore create(KafkaConnectorIncomingConfiguration config, V
     @Override
     public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collection<TopicPartition> partitions) {
         return Uni.createFrom().deferred(() -> {
-            Object[] ids = partitions.stream()
+            List<CheckpointEntityId> ids = partitions.stream()
                     .map(tp -> new CheckpointEntityId(consumerGroupId, tp))
-                    .toArray(Object[]::new);
+                    .toList();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(emitter -> {
-                List<CheckpointEntity> fetched = new ArrayList<>();
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
                     tx = session.beginTransaction();
-                    for (Object id : ids) {
-                        CheckpointEntity entity = session.find(stateType, id);
-                        if (entity != null) {
-                            fetched.add(entity);
-                        }
-                    }
+                    // Load all the partitions at once rather than one query per partition
+                    List<? extends CheckpointEntity> fetched = session.findMultiple(stateType, ids);
                     Map<TopicPartition, ProcessingState<?>> stateMap = fetched.stream()
                             .filter(e -> e != null && CheckpointEntity.topicPartition(e) != null)
                             .collect(Collectors.toMap(CheckpointEntity::topicPartition,
@@ -104,16 +98,25 @@ public Uni<Map<TopicPartition, ProcessingState<?>>> fetchProcessingState(Collect
     @Override
     public Uni<Void> persistProcessingState(Map<TopicPartition, ProcessingState<?>> state) {
         return Uni.createFrom().deferred(() -> {
-            Object[] entities = state.entrySet().stream()
+            List<CheckpointEntity> entities = state.entrySet().stream()
                     .filter(e -> !ProcessingState.isEmptyOrNull(e.getValue()))
-                    .map(e -> CheckpointEntity.from((ProcessingState<? extends CheckpointEntity>) e.getValue(),
+                    .map(e -> (CheckpointEntity) CheckpointEntity.from(
+                            (ProcessingState<? extends CheckpointEntity>) e.getValue(),
                             new CheckpointEntityId(consumerGroupId, e.getKey())))
-                    .toArray();
+                    .toList();
+            if (entities.isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            List<CheckpointEntityId> ids = entities.stream().map(CheckpointEntity::getId).toList();
             return Vertx.currentContext().executeBlocking(Uni.createFrom().emitter(e -> {
                 Transaction tx = null;
                 try (Session session = sf.openSession()) {
+                    // Write the states of all the partitions with a single JDBC batch
+                    session.setJdbcBatchSize(entities.size());
                     tx = session.beginTransaction();
-                    for (Object entity : entities) {
+                    // Load the current states at once, so that merging does not select them one by one
+                    session.findMultiple(stateType, ids);
+                    for (CheckpointEntity entity : entities) {
                         session.merge(entity);
                     }
                     session.flush();
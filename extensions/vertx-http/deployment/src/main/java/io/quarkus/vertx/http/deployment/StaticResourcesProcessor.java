@@ -2,13 +2,24 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -19,6 +30,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
@@ -27,6 +39,8 @@
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
@@ -59,13 +73,64 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        if (!httpBuildTimeConfig.precompressStaticResources() || staticResources.isEmpty()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, String> etags = new HashMap<>();
+        for (StaticResourcesBuildItem.Entry entry : staticResources.get().getEntries()) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            String contentType = MimeMapping.getMimeTypeForFilename(entry.getPath());
+            if (contentType == null || !compressMediaTypes.contains(contentType)) {
+                continue;
+            }
+            String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + entry.getPath();
+            String compressedResourceName = resourceName + StaticResourcesRecorder.GZIP_SUFFIX;
+            if (classLoader.getResource(compressedResourceName) != null) {
+                // never shadow a resource provided by the application
+                continue;
+            }
+            byte[] content;
+            try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+                if (in == null) {
+                    continue;
+                }
+                content = in.readAllBytes();
+            }
+            byte[] compressed = gzip(content);
+            if (compressed.length >= content.length) {
+                continue;
+            }
+            generatedResources.produce(new GeneratedResourceBuildItem(compressedResourceName, compressed));
+            nativeImageResources.produce(new NativeImageResourceBuildItem(compressedResourceName));
+            etags.put(entry.getPath(), etag(compressed));
+        }
+        if (!etags.isEmpty()) {
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(etags));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, String> precompressedEtags = precompressedStaticResources
+                    .map(PrecompressedStaticResourcesBuildItem::getEtags).orElse(Map.of());
+            defaultRoutes.produce(new DefaultRouteBuildItem(
+                    recorder.start(staticResources.get().getPaths(), precompressedEtags)));
         }
     }
 
@@ -100,6 +165,34 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
         }
     }
 
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new BestCompressionGZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Compression happens once at build time, so the best ratio is worth the extra time.
+     */
+    private static final class BestCompressionGZIPOutputStream extends GZIPOutputStream {
+
+        BestCompressionGZIPOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
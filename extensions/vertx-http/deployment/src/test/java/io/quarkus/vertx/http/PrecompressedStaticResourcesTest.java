@@ -0,0 +1,77 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusExtensionTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    @RegisterExtension
+    static final QuarkusExtensionTest test = new QuarkusExtensionTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .add(new StringAsset(CompressionTest.TEXT), "META-INF/resources/lorem.txt"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        String etag = given().get("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", startsWith("text/plain"))
+                .header("Vary", "accept-encoding")
+                .header("ETag", notNullValue())
+                .body(equalTo(CompressionTest.TEXT))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag).get("/lorem.txt").then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void shouldServeOriginalWhenGzipIsNotAccepted() {
+        given().config(RestAssured.config
+                .decoderConfig(DecoderConfig.decoderConfig().with().contentDecoders(DecoderConfig.ContentDecoder.DEFLATE)))
+                .get("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "accept-encoding")
+                .body(equalTo(CompressionTest.TEXT));
+    }
+
+    @Test
+    public void shouldServePrecompressedHeadersForHead() {
+        given().header("Accept-Encoding", "gzip").head("/lorem.txt").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "accept-encoding")
+                .header("ETag", notNullValue())
+                .body(emptyString());
+    }
+
+    @Test
+    public void shouldNotServePrecompressedVariantForOptions() {
+        given().header("Accept-Encoding", "gzip").options("/lorem.txt").then()
+                .statusCode(not(200))
+                .header("Content-Encoding", nullValue());
+    }
+
+    @Test
+    public void shouldNotExposeGeneratedVariant() {
+        given().get("/lorem.txt.gz").then()
+                .statusCode(404)
+                .header("Content-Encoding", nullValue());
+    }
+}
@@ -5,6 +5,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -12,7 +13,11 @@
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
@@ -22,6 +27,7 @@
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    public static final String GZIP_SUFFIX = ".gz";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -39,7 +45,7 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> precompressedEtags) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -104,6 +110,20 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        HttpMethod method = ctx.request().method();
+                        if (!precompressedEtags.isEmpty() && (method == HttpMethod.GET || method == HttpMethod.HEAD)) {
+                            String resource = knownPaths.contains(rel) ? rel : rel.concat(indexPage);
+                            String etag = precompressedEtags.get(resource);
+                            if (etag != null) {
+                                // both variants of the resource must tell shared caches that they depend on the header
+                                ctx.response().headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                                if (ctx.request().getHeader(HttpHeaders.RANGE) == null
+                                        && acceptsGzip(ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                                    sendPrecompressed(ctx, resource, etag, config);
+                                    return;
+                                }
+                            }
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -131,4 +151,77 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * Serves the gzip variant of a static resource generated at build time.
+     */
+    private static void sendPrecompressed(RoutingContext ctx, String resource, String etag, StaticResourcesConfig config) {
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, etag);
+        if (config.cachingEnabled()) {
+            headers.set(HttpHeaders.CACHE_CONTROL, "public, max-age=" + config.maxAge().toSeconds());
+        }
+        if (etagMatches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(resource);
+        if (contentType.startsWith("text")) {
+            contentType = contentType + ";charset=UTF-8";
+        }
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        response.sendFile(META_INF_RESOURCES + resource + GZIP_SUFFIX).onFailure(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable failure) {
+                ctx.fail(failure);
+            }
+        });
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=") && isZero(param.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String qvalue) {
+        try {
+            return Double.parseDouble(qvalue.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                // weak comparison is used for If-None-Match
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -111,6 +111,17 @@ public interface VertxHttpBuildTimeConfig {
     @WithDefault("text/html,text/plain,text/xml,text/css,text/javascript,application/javascript,application/json,application/graphql+json,application/xhtml+xml")
     Optional<List<String>> compressMediaTypes();
 
+    /**
+     * If enabled then the static resources found in {@code META-INF/resources} whose media type is listed in
+     * {@link #compressMediaTypes} are compressed with gzip at build time.
+     * <p>
+     * Clients which accept the gzip encoding are then served the compressed variant directly, instead of compressing the
+     * resource on every request. These resources are also served with a strong {@code ETag} computed from their content.
+     * This setting has no effect in dev mode.
+     */
+    @WithDefault("false")
+    boolean precompressStaticResources();
+
     /**
      * The compression level used when compression support is enabled.
      */
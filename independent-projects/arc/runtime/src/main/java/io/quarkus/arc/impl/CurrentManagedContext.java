@@ -27,6 +27,13 @@ public abstract class CurrentManagedContext implements ManagedContext {
 
     private static final Logger LOG = Logger.getLogger(CurrentManagedContext.class);
 
+    private static final Consumer<ContextInstanceHandle<?>> DESTROY_ACTION = new Consumer<>() {
+        @Override
+        public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
+            contextInstanceHandle.destroy();
+        }
+    };
+
     private final CurrentContext<CurrentContextState> currentContext;
 
     private final Supplier<ContextInstances> contextInstances;
@@ -100,7 +107,7 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
         if (state == null || !state.isValid()) {
             return null;
         }
-        ContextInstances contextInstances = state.contextInstances;
+        ContextInstances contextInstances = state.contextInstances();
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
@@ -136,9 +143,12 @@ public <T> T get(Contextual<T> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return null;
+        }
         @SuppressWarnings("unchecked")
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -159,8 +169,12 @@ public void destroy(Contextual<?> contextual) {
         if (state == null || !state.isValid()) {
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -181,12 +195,10 @@ public void destroy(ContextState state) {
                 fireIfNotNull(beforeDestroyedNotifier);
             }
             if (currentState.invalidate()) {
-                currentState.contextInstances.removeEach(new Consumer<>() {
-                    @Override
-                    public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
-                        contextInstanceHandle.destroy();
-                    }
-                });
+                ContextInstances contextInstances = currentState.contextInstancesIfPresent();
+                if (contextInstances != null) {
+                    contextInstances.removeEach(DESTROY_ACTION);
+                }
                 fireIfNotNull(destroyedNotifier);
             }
         } else {
@@ -196,7 +208,7 @@ public void accept(ContextInstanceHandle<?> contextInstanceHandle) {
 
     @Override
     public CurrentContextState initializeState() {
-        CurrentContextState state = new CurrentContextState(contextInstances.get());
+        CurrentContextState state = new CurrentContextState(contextInstances);
         return state;
     }
 
@@ -241,6 +253,7 @@ public static class CurrentContextState implements ContextState {
         // they should be the very first value observable even in presence of
         // unsafe publication of this object.
         private static final VarHandle STATE_UPDATER;
+        private static final VarHandle CONTEXT_INSTANCES_UPDATER;
 
         private static final byte INVALID_MASK = 0b00000001;
         private static final byte INITIALIZED_FIRED_MASK = 0b00000010;
@@ -248,22 +261,51 @@ public static class CurrentContextState implements ContextState {
 
         static {
             try {
-                STATE_UPDATER = MethodHandles.lookup().findVarHandle(CurrentContextState.class, "state", byte.class);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                STATE_UPDATER = lookup.findVarHandle(CurrentContextState.class, "state", byte.class);
+                CONTEXT_INSTANCES_UPDATER = lookup.findVarHandle(CurrentContextState.class, "contextInstances",
+                        ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        private final Supplier<ContextInstances> contextInstancesSupplier;
+        // created lazily, many requests never touch a bean with this scope
+        private volatile ContextInstances contextInstances;
         // it contains 3 states: isValid, initializedFired and beforeDestroyedFired
         private volatile byte state;
 
-        CurrentContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        CurrentContextState(Supplier<ContextInstances> contextInstancesSupplier) {
+            this.contextInstancesSupplier = Objects.requireNonNull(contextInstancesSupplier);
+        }
+
+        /**
+         * @return the context instances, created if needed
+         */
+        ContextInstances contextInstances() {
+            ContextInstances instances = contextInstances;
+            if (instances != null) {
+                return instances;
+            }
+            ContextInstances newInstances = Objects.requireNonNull(contextInstancesSupplier.get());
+            instances = (ContextInstances) CONTEXT_INSTANCES_UPDATER.compareAndExchange(this, null, newInstances);
+            return instances != null ? instances : newInstances;
+        }
+
+        /**
+         * @return the context instances, or {@code null} if no instance was created yet
+         */
+        ContextInstances contextInstancesIfPresent() {
+            return contextInstances;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
@@ -4,6 +4,8 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -215,6 +217,23 @@ public void testGet() {
         }
     }
 
+    @Test
+    public void testNoInstanceCreated() {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            InjectableBean<Controller> controllerBean = Arc.container().instance(Controller.class).getBean();
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNull(requestContext.get(controllerBean));
+            // destroying an instance which was never created is a noop
+            requestContext.destroy(controllerBean);
+            assertNotNull(requestContext.get(controllerBean, new CreationalContextImpl<>(controllerBean)));
+            assertEquals(1, requestContext.getState().getContextualInstances().size());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @ApplicationScoped
     public static class Boom {
 
@@ -749,6 +749,16 @@ public void testJwtTokenIntrospectionOnlyAndUserInfoCache() {
         // next 3 calls are made, only 1 call to introspection and user info endpoints is expected, and only three entries in the cache are expected
         verifyTokenIntrospectionAndUserInfoAreCached(token3, 3);
 
+        // a fourth token exceeds the max cache size, an entry must be evicted
+        String token4 = getAccessTokenFromSimpleOidc("2");
+        RestAssured.given().auth().oauth2(token4)
+                .when().get("/tenant/tenant-oidc-introspection-only-cache/api/user")
+                .then()
+                .statusCode(200);
+        RestAssured.when().get("/cache/size").then().body(equalTo("3"));
+        RestAssured.when().post("/oidc/introspection-endpoint-call-count").then().body(equalTo("0"));
+        RestAssured.when().post("/oidc/userinfo-endpoint-call-count").then().body(equalTo("0"));
+
         RestAssured.when().get("/oidc/jwk-endpoint-call-count").then().body(equalTo("0"));
         RestAssured.when().post("/oidc/disable-introspection").then().body(equalTo("false"));
         RestAssured.when().get("/cache/size").then().body(equalTo("3"));